@@ -0,0 +1,148 @@
+package abstracta.api;
+
+import abstracta.framework.CredentialsManager;
+import abstracta.framework.replay.ReplayProxy;
+import abstracta.utils.LoggerManager;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP client of the OpenCart storefront, used to put the application into a given state without the UI.
+ * It calls the same endpoints the pages call from the browser, within one OpenCart session whose id,
+ * the {@value #SESSION_COOKIE} cookie, can then be handed to the browser. The base URL is the environment's,
+ * routed through the scenario's HTTP archive proxy when one is running; pass another base URL to target a stub.
+ */
+public class OpenCartClient {
+    /**
+     * Name of the cookie holding the OpenCart session id.
+     */
+    public static final String SESSION_COOKIE = "OCSESSID";
+    private static final LoggerManager LOG = LoggerManager.getLogger(OpenCartClient.class);
+    private static final String SEARCH_PATH = "index.php?route=product/search&search=";
+    private static final String ADD_TO_CART_PATH = "index.php?route=checkout/cart/add";
+    private final String baseURL;
+    private final CookieManager cookies = new CookieManager();
+    private final HttpClient client;
+
+    /**
+     * Creates a client of the current environment, in a new OpenCart session.
+     */
+    public OpenCartClient() {
+        this(ReplayProxy.route(CredentialsManager.getInstance().getBaseURL()));
+    }
+
+    /**
+     * Creates a client of the storefront at the given base URL, in a new OpenCart session.
+     *
+     * @param baseURL the storefront base URL, ending with a slash
+     */
+    public OpenCartClient(String baseURL) {
+        this.baseURL = baseURL;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    /**
+     * Adds a product to the cart of the session, looking it up by its exact name.
+     *
+     * @param productName the name of the product as listed in the search results
+     * @param quantity    the quantity to add
+     * @return this client
+     * @throws IllegalStateException if the product is not found or the store rejects it
+     */
+    public OpenCartClient addToCart(String productName, int quantity) {
+        return addToCart(findProductId(productName), quantity);
+    }
+
+    /**
+     * Adds a product to the cart of the session.
+     *
+     * @param productId the OpenCart product id
+     * @param quantity  the quantity to add
+     * @return this client
+     * @throws IllegalStateException if the store rejects the product
+     */
+    public OpenCartClient addToCart(int productId, int quantity) {
+        String form = "product_id=" + productId + "&quantity=" + quantity;
+        String response = send(HttpRequest.newBuilder(URI.create(baseURL + ADD_TO_CART_PATH))
+                .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+                .header("X-Requested-With", "XMLHttpRequest")
+                .POST(HttpRequest.BodyPublishers.ofString(form)));
+        if (!response.contains("\"success\"")) {
+            throw new IllegalStateException("OpenCart did not add product " + productId + " to the cart: " + response);
+        }
+        LOG.info("Added product {} x{} to the cart of session {}", productId, quantity, getSessionId());
+        return this;
+    }
+
+    /**
+     * Looks up the id of a product by searching for its exact name.
+     *
+     * @param productName the name of the product as listed in the search results
+     * @return the OpenCart product id
+     * @throws IllegalStateException if no search result has that name
+     */
+    public int findProductId(String productName) {
+        String page = send(HttpRequest.newBuilder(URI.create(baseURL + SEARCH_PATH
+                + URLEncoder.encode(productName, StandardCharsets.UTF_8))).GET());
+        Matcher link = Pattern.compile("<a href=\"[^\"]*[?&;]product_id=(\\d+)[^\"]*\">\\s*"
+                + Pattern.quote(productName) + "\\s*</a>", Pattern.CASE_INSENSITIVE).matcher(page);
+        if (!link.find()) {
+            throw new IllegalStateException("No product named " + productName + " in the search results");
+        }
+        return Integer.parseInt(link.group(1));
+    }
+
+    /**
+     * Returns the id of the OpenCart session the client works in.
+     *
+     * @return the session id
+     * @throws IllegalStateException if the store has not started a session yet
+     */
+    public String getSessionId() {
+        return cookies.getCookieStore().getCookies().stream()
+                .filter(cookie -> SESSION_COOKIE.equals(cookie.getName()))
+                .map(HttpCookie::getValue)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("OpenCart has not set the " + SESSION_COOKIE
+                        + " cookie"));
+    }
+
+    /**
+     * Sends a request and returns the response body.
+     *
+     * @param request the request to send
+     * @return the response body
+     * @throws IllegalStateException if the store cannot be reached or does not answer 200
+     */
+    private String send(HttpRequest.Builder request) {
+        HttpRequest built = request.build();
+        try {
+            HttpResponse<String> response = client.send(built, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(built.method() + " " + built.uri() + " answered "
+                        + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new IllegalStateException(built.method() + " " + built.uri() + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + built.uri(), e);
+        }
+    }
+}
@@ -2,49 +2,23 @@ package abstracta.framework;
 
 import abstracta.utils.LoggerManager;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.Properties;
-
 /**
- * Singleton class to manage credentials and environment settings.
+ * Singleton class holding the credentials and environment settings.
+ * The environment is resolved from {@link Settings} once, when the instance is built.
  */
 public class CredentialsManager {
-    private Properties properties;
-    private static final LoggerManager LOG = LoggerManager.getInstance();
-    private static CredentialsManager instance;
-    private String envId;
+    private static final LoggerManager LOG = LoggerManager.getLogger(CredentialsManager.class);
+    private final String envId;
+    private final String baseURL;
 
     /**
      * Private constructor to initialize the CredentialsManager instance.
      */
     private CredentialsManager() {
-        initialize();
-    }
-
-    /**
-     * Initializes the CredentialsManager by reading environment variables and loading properties.
-     */
-    private void initialize() {
-        LOG.info("Reading environment variables");
-        String wpEnvironmentId = System.getProperty("envId");
-        if ((wpEnvironmentId == null) || (wpEnvironmentId.isEmpty())) {
-            envId = "local";
-        } else {
-            envId = wpEnvironmentId.toLowerCase();
-        }
-        LOG.info("Environment ID --> " + envId);
-
-        properties = new Properties();
-        String propertiesFile = System.getProperty("user.dir") + File.separator + "src" + File.separator + "main" + File.separator + "resources" + File.separator + "environments.properties";
-        try (FileInputStream fis = new FileInputStream(propertiesFile)) {
-            properties.load(fis);
-            LOG.info("Loaded properties from file: " + propertiesFile);
-        } catch (IOException e) {
-            LOG.error("Failed to load properties file: " + e.getMessage());
-            e.printStackTrace();
-        }
+        Settings settings = Settings.getInstance();
+        envId = settings.getString("envId", "local").toLowerCase();
+        baseURL = settings.getString(envId + ".baseURL");
+        LOG.info("Environment ID --> {}, base URL --> {}", envId, baseURL);
     }
 
     /**
@@ -53,22 +27,14 @@ public class CredentialsManager {
      * @return the singleton instance of CredentialsManager
      */
     public static CredentialsManager getInstance() {
-        if (instance == null) {
-            instance = new CredentialsManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
-     * Gets the environment setting for the specified key.
-     *
-     * @param setting the key of the setting
-     * @return the value of the setting
+     * Holds the lazily created instance; class initialization makes the creation thread-safe.
      */
-    private String getEnvironmentSetting(String setting) {
-        String value = (String) getInstance().properties.get(setting);
-        LOG.info("Getting environment setting for key: " + setting + " --> " + value);
-        return value;
+    private static final class Holder {
+        private static final CredentialsManager INSTANCE = new CredentialsManager();
     }
 
     /**
@@ -77,7 +43,6 @@ public class CredentialsManager {
      * @return the environment ID
      */
     public String getEnvId() {
-        LOG.info("Getting environment ID: " + envId);
         return envId;
     }
 
@@ -87,8 +52,6 @@ public class CredentialsManager {
      * @return the base URL
      */
     public String getBaseURL() {
-        String baseURL = getEnvironmentSetting(getEnvId() + ".baseURL");
-        LOG.info("Getting base URL: " + baseURL);
         return baseURL;
     }
 }
@@ -0,0 +1,191 @@
+package abstracta.framework;
+
+import abstracta.utils.LoggerManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable snapshot of the framework settings, built once per JVM.
+ * A setting is looked up, from highest to lowest precedence, in the system properties, then in the environment
+ * variables (the key upper-cased with dots turned into underscores and prefixed with {@value #ENVIRONMENT_PREFIX},
+ * e.g. {@code ABSTRACTA_WEBDRIVER_HEADLESS_MODE}), then in the {@code webdriver.properties} and
+ * {@code environments.properties} classpath resources. The prefix keeps unrelated variables such as the desktop's
+ * {@code BROWSER} from changing the settings.
+ * All three sources are copied when the snapshot is built, so later changes to them are not seen
+ * and the snapshot can be shared freely between threads.
+ */
+public final class Settings {
+    private static final LoggerManager LOG = LoggerManager.getLogger(Settings.class);
+    private static final String[] RESOURCES = {"webdriver.properties", "environments.properties"};
+    private static final String ENVIRONMENT_PREFIX = "ABSTRACTA_";
+    private final Map<String, String> systemProperties;
+    private final Map<String, String> environment;
+    private final Map<String, String> resources;
+
+    /**
+     * Private constructor to take the snapshot of the three sources.
+     */
+    private Settings() {
+        systemProperties = copy(System.getProperties());
+        environment = Map.copyOf(System.getenv());
+        Properties merged = new Properties();
+        for (String resource : RESOURCES) {
+            merged.putAll(load(resource));
+        }
+        resources = copy(merged);
+    }
+
+    /**
+     * Returns the settings snapshot.
+     *
+     * @return the settings snapshot
+     */
+    public static Settings getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Initialization-on-demand holder, so the sources are read exactly once even under parallel execution.
+     */
+    private static final class Holder {
+        private static final Settings INSTANCE = new Settings();
+    }
+
+    /**
+     * Loads a properties resource from the classpath.
+     *
+     * @param resource the resource name
+     * @return the properties, empty if the resource is missing or unreadable
+     */
+    private static Properties load(String resource) {
+        Properties properties = new Properties();
+        try (InputStream stream = Settings.class.getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                LOG.warn("Settings resource not found on the classpath: {}", resource);
+            } else {
+                properties.load(stream);
+                LOG.info("Loaded settings from classpath resource: {}", resource);
+            }
+        } catch (IOException e) {
+            LOG.error("Unable to load settings resource {}: {}", resource, e.getMessage());
+        }
+        return properties;
+    }
+
+    /**
+     * Copies the string entries of a properties object into an immutable map.
+     *
+     * @param properties the properties to copy
+     * @return the immutable copy
+     */
+    private static Map<String, String> copy(Properties properties) {
+        Map<String, String> copy = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            copy.put(key, properties.getProperty(key).trim());
+        }
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * Returns the name of the environment variable that overrides a setting.
+     *
+     * @param key the setting key
+     * @return the environment variable name
+     */
+    private static String environmentName(String key) {
+        return ENVIRONMENT_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_');
+    }
+
+    /**
+     * Checks whether any source defines a setting, even with an empty value.
+     *
+     * @param key the setting key
+     * @return true if the setting is defined
+     */
+    public boolean isDefined(String key) {
+        return systemProperties.containsKey(key) || environment.containsKey(environmentName(key))
+                || resources.containsKey(key);
+    }
+
+    /**
+     * Returns a setting, or a default when no source defines it.
+     *
+     * @param key          the setting key
+     * @param defaultValue the value returned when the setting is not defined or empty
+     * @return the value of the setting
+     */
+    public String getString(String key, String defaultValue) {
+        String value = systemProperties.get(key);
+        if (value == null || value.isEmpty()) {
+            value = environment.get(environmentName(key));
+        }
+        if (value == null || value.isEmpty()) {
+            value = resources.get(key);
+        }
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    /**
+     * Returns a setting that must be defined.
+     *
+     * @param key the setting key
+     * @return the value of the setting
+     * @throws IllegalStateException if no source defines the setting
+     */
+    public String getString(String key) {
+        String value = getString(key, null);
+        if (value == null) {
+            throw new IllegalStateException("Missing setting " + key + " (system property, environment variable "
+                    + environmentName(key) + " or classpath properties)");
+        }
+        return value;
+    }
+
+    /**
+     * Returns a setting that must be defined, as a boolean.
+     *
+     * @param key the setting key
+     * @return the value of the setting
+     */
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(getString(key));
+    }
+
+    /**
+     * Returns a setting that must be defined, as an integer.
+     *
+     * @param key the setting key
+     * @return the value of the setting
+     * @throws IllegalStateException if the setting is not an integer
+     */
+    public int getInt(String key) {
+        String value = getString(key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Setting " + key + " is not an integer: " + value, e);
+        }
+    }
+
+    /**
+     * Returns a setting that must be defined, as a duration in milliseconds.
+     *
+     * @param key the setting key
+     * @return the value of the setting
+     * @throws IllegalStateException if the setting is not a number of milliseconds
+     */
+    public Duration getMillis(String key) {
+        String value = getString(key);
+        try {
+            return Duration.ofMillis(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Setting " + key + " is not a number of milliseconds: " + value, e);
+        }
+    }
+}
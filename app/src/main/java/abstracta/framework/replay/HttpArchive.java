@@ -0,0 +1,184 @@
+package abstracta.framework.replay;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk archive of the HTTP exchanges of one scenario.
+ * Response bodies are appended to {@code <name>.bin}; {@code <name>.json} indexes them by request key with
+ * their status and headers. When a key was recorded several times, replay serves the recordings in the order
+ * they were made and then keeps serving the last one, so stateful pages such as the cart replay faithfully.
+ * In replay mode the body file is memory-mapped and bodies are copied straight out of the page cache.
+ */
+final class HttpArchive implements Closeable {
+    private static final Json JSON = new Json();
+    private final Path indexFile;
+    private final FileChannel bodies;
+    private final MappedByteBuffer mappedBodies;
+    private final List<Map<String, Object>> recordedIndex = new ArrayList<>();
+    private final Map<String, List<Map<String, Object>>> replayIndex = new HashMap<>();
+    private final Map<String, AtomicInteger> replayCounters = new HashMap<>();
+    private long recordedBytes;
+
+    /**
+     * Private constructor to open an archive for recording or replay.
+     *
+     * @param indexFile    the index file
+     * @param bodies       the body file channel, open for writing when recording
+     * @param mappedBodies the mapped body file when replaying, null when recording
+     */
+    private HttpArchive(Path indexFile, FileChannel bodies, MappedByteBuffer mappedBodies) {
+        this.indexFile = indexFile;
+        this.bodies = bodies;
+        this.mappedBodies = mappedBodies;
+    }
+
+    /**
+     * Creates an empty archive, replacing any previous recording with the same name.
+     *
+     * @param directory the archive directory
+     * @param name      the archive name
+     * @return the archive, open for recording
+     * @throws IOException if the files cannot be created
+     */
+    static HttpArchive record(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel bodies = FileChannel.open(directory.resolve(name + ".bin"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new HttpArchive(directory.resolve(name + ".json"), bodies, null);
+    }
+
+    /**
+     * Opens a recorded archive and maps its bodies into memory.
+     *
+     * @param directory the archive directory
+     * @param name      the archive name
+     * @return the archive, open for replay
+     * @throws IOException if the archive has not been recorded or cannot be read
+     */
+    static HttpArchive replay(Path directory, String name) throws IOException {
+        Path indexFile = directory.resolve(name + ".json");
+        try (FileChannel bodies = FileChannel.open(directory.resolve(name + ".bin"), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            HttpArchive archive = new HttpArchive(indexFile, null,
+                    bodies.map(FileChannel.MapMode.READ_ONLY, 0, bodies.size()));
+            List<Map<String, Object>> entries = JSON.toType(Files.readString(indexFile, StandardCharsets.UTF_8),
+                    Json.LIST_OF_MAPS_TYPE);
+            for (Map<String, Object> entry : entries) {
+                String key = (String) entry.get("key");
+                archive.replayIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+                archive.replayCounters.putIfAbsent(key, new AtomicInteger());
+            }
+            return archive;
+        }
+    }
+
+    /**
+     * Appends an exchange to the archive.
+     *
+     * @param key     the request key
+     * @param status  the response status
+     * @param headers the response headers, as name and value pairs
+     * @param body    the response body
+     * @throws IOException if the body cannot be written
+     */
+    synchronized void add(String key, int status, List<List<String>> headers, byte[] body) throws IOException {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("key", key);
+        entry.put("status", status);
+        entry.put("headers", headers);
+        entry.put("offset", recordedBytes);
+        entry.put("length", body.length);
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        while (buffer.hasRemaining()) {
+            bodies.write(buffer);
+        }
+        recordedBytes += body.length;
+        recordedIndex.add(entry);
+    }
+
+    /**
+     * Returns the next recorded response for a request.
+     *
+     * @param key the request key
+     * @return the response, or null if the request was never recorded
+     */
+    Response find(String key) {
+        List<Map<String, Object>> entries = replayIndex.get(key);
+        if (entries == null) {
+            return null;
+        }
+        int occurrence = Math.min(replayCounters.get(key).getAndIncrement(), entries.size() - 1);
+        Map<String, Object> entry = entries.get(occurrence);
+        byte[] body = new byte[((Number) entry.get("length")).intValue()];
+        mappedBodies.duplicate().position(((Number) entry.get("offset")).intValue()).get(body);
+        @SuppressWarnings("unchecked")
+        List<List<String>> headers = (List<List<String>>) entry.get("headers");
+        return new Response(((Number) entry.get("status")).intValue(), headers, body);
+    }
+
+    /**
+     * Returns how many exchanges the archive holds.
+     *
+     * @return the number of recorded exchanges
+     */
+    synchronized int size() {
+        return mappedBodies == null ? recordedIndex.size()
+                : replayIndex.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Writes the index of a recording archive. Replay archives have nothing to write.
+     *
+     * @throws IOException if the index cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (bodies != null) {
+            bodies.close();
+            Files.writeString(indexFile, JSON.toJson(recordedIndex), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A recorded response.
+     */
+    static final class Response {
+        private final int status;
+        private final List<List<String>> headers;
+        private final byte[] body;
+
+        Response(int status, List<List<String>> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        List<List<String>> getHeaders() {
+            return headers;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package abstracta.framework.replay;
+
+import abstracta.framework.CredentialsManager;
+import abstracta.framework.selenium.DriverManager;
+import abstracta.utils.LoggerManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local reverse proxy in front of the environment base URL, one per scenario thread.
+ * In {@code record} mode ({@code webdriver.http.archive=record}) every request is forwarded to the real server and
+ * the exchange is stored in the scenario's {@link HttpArchive}; in {@code replay} mode the responses are served
+ * from the archive and the real server is never contacted, so scenarios run at local-disk speed and offline.
+ * Links, redirects and cookies pointing at the real host are rewritten to the proxy so the browser stays on it.
+ * Third-party hosts are not proxied; block them with a network profile for fully offline runs.
+ */
+public final class ReplayProxy {
+    private static final LoggerManager LOG = LoggerManager.getLogger(ReplayProxy.class);
+    private static final ThreadLocal<ReplayProxy> CURRENT = new ThreadLocal<>();
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "transfer-encoding",
+            "content-length", "content-encoding", "host", "accept-encoding", "upgrade", "expect", "te", "trailer",
+            "proxy-connection", "proxy-authorization", "proxy-authenticate");
+    /**
+     * Cache validators and directives of the browser, dropped while recording: a pooled browser keeps its cache
+     * between scenarios, and a recorded {@code 304} would be replayed to a browser that never cached the resource.
+     */
+    private static final Set<String> CACHE_HEADERS = Set.of("if-none-match", "if-modified-since", "if-range",
+            "if-match", "if-unmodified-since", "cache-control", "pragma");
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+    private final boolean recording;
+    private final HttpArchive archive;
+    private final String upstreamOrigin;
+    private final String upstreamHost;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String proxyHost;
+
+    /**
+     * Private constructor to start a proxy for one scenario.
+     *
+     * @param recording whether requests are forwarded and recorded rather than replayed
+     * @param archive   the scenario archive
+     * @throws IOException if the server cannot be started
+     */
+    private ReplayProxy(boolean recording, HttpArchive archive) throws IOException {
+        this.recording = recording;
+        this.archive = archive;
+        URI baseUri = URI.create(CredentialsManager.getInstance().getBaseURL());
+        upstreamHost = baseUri.getRawAuthority();
+        upstreamOrigin = baseUri.getScheme() + "://" + upstreamHost;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replay-proxy");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        proxyHost = server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Starts the proxy of the scenario running on the current thread, when an archive mode is configured.
+     *
+     * @param scenarioName the file-safe name of the scenario, used as the archive name
+     * @throws IllegalStateException if replay is requested for a scenario that was never recorded
+     */
+    public static void startScenario(String scenarioName) {
+        String mode = DriverManager.DRIVER_CONFIG.getHttpArchiveMode().toLowerCase(Locale.ROOT);
+        if ("off".equals(mode)) {
+            return;
+        }
+        Path directory = Paths.get(DriverManager.DRIVER_CONFIG.getHttpArchiveDir());
+        try {
+            boolean recording = "record".equals(mode);
+            HttpArchive archive = recording ? HttpArchive.record(directory, scenarioName)
+                    : HttpArchive.replay(directory, scenarioName);
+            ReplayProxy proxy = new ReplayProxy(recording, archive);
+            CURRENT.set(proxy);
+            LOG.info("{} HTTP archive {} through http://{}", recording ? "Recording" : "Replaying", scenarioName,
+                    proxy.proxyHost);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to " + mode + " HTTP archive " + scenarioName + " in "
+                    + directory.toAbsolutePath() + "; record it first with webdriver.http.archive=record", e);
+        }
+    }
+
+    /**
+     * Stops the proxy of the current thread and, when recording, writes the archive index.
+     */
+    public static void endScenario() {
+        ReplayProxy proxy = CURRENT.get();
+        if (proxy == null) {
+            return;
+        }
+        CURRENT.remove();
+        proxy.server.stop(0);
+        proxy.executor.shutdownNow();
+        try {
+            proxy.archive.close();
+            LOG.info("HTTP archive closed with {} exchanges", proxy.archive.size());
+        } catch (IOException e) {
+            LOG.error("Unable to write HTTP archive: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Points a URL of the environment at the proxy of the current thread.
+     * URLs are returned unchanged when no proxy is running or when they belong to another host.
+     *
+     * @param url the URL to navigate to
+     * @return the URL to give the browser
+     */
+    public static String route(String url) {
+        ReplayProxy proxy = CURRENT.get();
+        return proxy == null ? url : proxy.toProxy(url);
+    }
+
+    /**
+     * Serves one request, from the real server when recording and from the archive when replaying.
+     *
+     * @param exchange the exchange with the browser
+     * @throws IOException if the response cannot be sent
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String target = exchange.getRequestURI().toString();
+            String key = exchange.getRequestMethod() + " " + target
+                    + (requestBody.length == 0 ? "" : " #" + digest(requestBody));
+            HttpArchive.Response response = recording ? forward(exchange, target, requestBody, key)
+                    : archive.find(key);
+            if (response == null) {
+                LOG.warn("No recorded response for {}", key);
+                send(exchange, new HttpArchive.Response(504, List.of(List.of("Content-Type", "text/plain")),
+                        ("Not recorded: " + key).getBytes(StandardCharsets.UTF_8)));
+                return;
+            }
+            send(exchange, response);
+        } catch (IOException | RuntimeException e) {
+            LOG.error("HTTP archive proxy failed on {}: {}", exchange.getRequestURI(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Forwards a request to the real server and records the exchange.
+     * The browser's cache validators are replaced by {@code Cache-Control: no-cache}, so the archive holds full
+     * responses rather than {@code 304 Not Modified}.
+     *
+     * @param exchange    the exchange with the browser
+     * @param target      the request path and query
+     * @param requestBody the request body
+     * @param key         the request key
+     * @return the response of the real server
+     * @throws IOException if the real server cannot be reached
+     */
+    private HttpArchive.Response forward(HttpExchange exchange, String target, byte[] requestBody, String key)
+            throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upstreamOrigin + target))
+                .method(exchange.getRequestMethod(), requestBody.length == 0
+                        ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            if (!HOP_BY_HOP_HEADERS.contains(lowerCase) && !CACHE_HEADERS.contains(lowerCase)) {
+                values.forEach(value -> request.header(name, value.replace("//" + proxyHost, "//" + upstreamHost)));
+            }
+        });
+        request.header("Cache-Control", "no-cache");
+        HttpResponse<byte[]> upstream;
+        try {
+            upstream = CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while forwarding " + key, e);
+        }
+        List<List<String>> headers = new ArrayList<>();
+        upstream.headers().map().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !name.startsWith(":")) {
+                values.forEach(value -> headers.add(List.of(name, value)));
+            }
+        });
+        HttpArchive.Response response = new HttpArchive.Response(upstream.statusCode(), headers, upstream.body());
+        archive.add(key, response.getStatus(), headers, response.getBody());
+        return response;
+    }
+
+    /**
+     * Sends a response to the browser with every reference to the real host pointed at the proxy.
+     *
+     * @param exchange the exchange with the browser
+     * @param response the response to send
+     * @throws IOException if the response cannot be sent
+     */
+    private void send(HttpExchange exchange, HttpArchive.Response response) throws IOException {
+        boolean text = false;
+        for (List<String> header : response.getHeaders()) {
+            String name = header.get(0);
+            String value = header.get(1);
+            if ("content-type".equalsIgnoreCase(name)) {
+                String type = value.toLowerCase(Locale.ROOT);
+                text = type.startsWith("text/") || type.contains("javascript") || type.contains("json")
+                        || type.contains("xml");
+            } else if ("location".equalsIgnoreCase(name)) {
+                value = toProxy(value);
+            } else if ("set-cookie".equalsIgnoreCase(name)) {
+                value = value.replaceAll("(?i);\\s*domain=[^;]*", "").replaceAll("(?i);\\s*secure", "");
+            }
+            exchange.getResponseHeaders().add(name, value);
+        }
+        byte[] body = text ? toProxy(new String(response.getBody(), StandardCharsets.ISO_8859_1))
+                .getBytes(StandardCharsets.ISO_8859_1) : response.getBody();
+        boolean noBody = body.length == 0 || "HEAD".equals(exchange.getRequestMethod())
+                || response.getStatus() == 204 || response.getStatus() == 304;
+        exchange.sendResponseHeaders(response.getStatus(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Rewrites absolute and protocol-relative references to the real host, JSON-escaped ones included,
+     * into references to the proxy.
+     *
+     * @param content the text to rewrite
+     * @return the rewritten text
+     */
+    private String toProxy(String content) {
+        String rewritten = content;
+        for (String separator : List.of("//", "\\/\\/")) {
+            rewritten = rewritten.replace("https:" + separator + upstreamHost, "http:" + separator + proxyHost)
+                    .replace(separator + upstreamHost, separator + proxyHost);
+        }
+        return rewritten;
+    }
+
+    /**
+     * Returns a short digest of a request body, so requests that differ only by their body are told apart.
+     *
+     * @param body the request body
+     * @return the first 16 hex digits of the SHA-256 digest
+     */
+    private static String digest(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body)).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Wait;
+import abstracta.framework.telemetry.WaitEvent;
+import abstracta.utils.LoggerManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Explicit wait used by the page objects, meant to run with the implicit wait disabled.
+ * Polling starts fast so a condition that is already (or almost) true is seen immediately,
+ * then backs off geometrically up to a ceiling so long waits do not flood the driver with commands.
+ * Every wait reports how long it actually waited and how many times the condition was evaluated,
+ * at debug level and as a Flight Recorder {@link WaitEvent}. A condition is only described when one of those is
+ * enabled or the wait times out: describing a condition on a PageFactory element looks the element up again.
+ * A timeout is not logged as an error here: the {@link TimeoutException} carries the same details, and only the
+ * caller knows whether it is a failure or an expected answer.
+ */
+public class AdaptiveWait implements Wait<WebDriver> {
+    private static final LoggerManager LOG = LoggerManager.getLogger(AdaptiveWait.class);
+    private static final double BACKOFF_FACTOR = 1.5;
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final Duration initialPolling;
+    private final Duration maxPolling;
+
+    /**
+     * Creates a wait for the given driver.
+     *
+     * @param driver         the WebDriver passed to the conditions
+     * @param timeout        the default timeout of each wait
+     * @param initialPolling the delay before the second evaluation of the condition
+     * @param maxPolling     the longest delay between two evaluations
+     */
+    public AdaptiveWait(WebDriver driver, Duration timeout, Duration initialPolling, Duration maxPolling) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialPolling = initialPolling;
+        this.maxPolling = maxPolling.compareTo(initialPolling) < 0 ? initialPolling : maxPolling;
+    }
+
+    /**
+     * Returns a copy of this wait with a different timeout, for calls that need a shorter or longer limit.
+     *
+     * @param newTimeout the timeout of the returned wait
+     * @return a new wait with the given timeout
+     */
+    public AdaptiveWait withTimeout(Duration newTimeout) {
+        return new AdaptiveWait(driver, newTimeout, initialPolling, maxPolling);
+    }
+
+    /**
+     * Returns the timeout of this wait.
+     *
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Waits until the condition returns a value that is neither null nor false.
+     *
+     * @param condition the condition to evaluate
+     * @param <V>       the type of the condition result
+     * @return the value returned by the condition
+     * @throws TimeoutException if the condition is not met within the timeout
+     */
+    @Override
+    public <V> V until(Function<? super WebDriver, V> condition) {
+        return measure(condition).getValue();
+    }
+
+    /**
+     * Waits until the condition returns a value that is neither null nor false and reports how long it took.
+     * {@link NotFoundException} and {@link StaleElementReferenceException} thrown by the condition count as "not yet".
+     *
+     * @param condition the condition to evaluate
+     * @param <V>       the type of the condition result
+     * @return the value together with the time waited and the number of evaluations
+     * @throws TimeoutException if the condition is not met within the timeout
+     */
+    public <V> Outcome<V> measure(Function<? super WebDriver, V> condition) {
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = initialPolling.toNanos();
+        int polls = 0;
+        WebDriverException lastException = null;
+        while (true) {
+            polls++;
+            try {
+                V value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    Outcome<V> outcome = new Outcome<>(value, Duration.ofNanos(System.nanoTime() - start), polls);
+                    int evaluations = polls;
+                    event.complete(condition, "met", evaluations);
+                    LOG.debug(() -> "Condition " + condition + " met after " + outcome.getElapsed().toMillis()
+                            + " ms (" + evaluations + " evaluation(s))");
+                    return outcome;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                long waited = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                String description = String.valueOf(condition);
+                event.complete(description, "timeout", polls);
+                LOG.debug("Condition {} not met after {} ms ({} evaluation(s))", description, waited, polls);
+                throw new TimeoutException("Expected condition failed: waiting for " + description + " (tried for "
+                        + waited + " ms with " + polls + " evaluation(s))", lastException);
+            }
+            sleep(Math.min(interval, remaining));
+            interval = Math.min((long) (interval * BACKOFF_FACTOR), maxPolling.toNanos());
+        }
+    }
+
+    /**
+     * Sleeps between two evaluations, restoring the interrupt flag if interrupted.
+     *
+     * @param nanos the time to sleep in nanoseconds
+     */
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Result of a successful wait.
+     *
+     * @param <V> the type of the condition result
+     */
+    public static final class Outcome<V> {
+        private final V value;
+        private final Duration elapsed;
+        private final int evaluations;
+
+        private Outcome(V value, Duration elapsed, int evaluations) {
+            this.value = value;
+            this.elapsed = elapsed;
+            this.evaluations = evaluations;
+        }
+
+        /**
+         * Returns the value returned by the condition.
+         *
+         * @return the condition value
+         */
+        public V getValue() {
+            return value;
+        }
+
+        /**
+         * Returns how long the wait actually took.
+         *
+         * @return the time waited
+         */
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Returns how many times the condition was evaluated.
+         *
+         * @return the number of evaluations
+         */
+        public int getEvaluations() {
+            return evaluations;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.Cookie;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the client-side state of a browser session: the current URL, the cookies and the
+ * {@code localStorage} and {@code sessionStorage} entries of the current origin.
+ * Captured and restored through {@link DriverManager}.
+ */
+public final class BrowserState {
+    private final String url;
+    private final List<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param url            the URL the browser was on
+     * @param cookies        the cookies of the page
+     * @param localStorage   the localStorage entries of the origin
+     * @param sessionStorage the sessionStorage entries of the origin
+     */
+    BrowserState(String url, List<Cookie> cookies, Map<String, String> localStorage,
+                 Map<String, String> sessionStorage) {
+        this.url = url;
+        this.cookies = List.copyOf(cookies);
+        this.localStorage = Map.copyOf(localStorage);
+        this.sessionStorage = Map.copyOf(sessionStorage);
+    }
+
+    /**
+     * Returns the URL the browser was on.
+     *
+     * @return the URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the cookies of the page.
+     *
+     * @return the cookies
+     */
+    public List<Cookie> getCookies() {
+        return cookies;
+    }
+
+    /**
+     * Returns the localStorage entries of the origin.
+     *
+     * @return the localStorage entries
+     */
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    /**
+     * Returns the sessionStorage entries of the origin.
+     *
+     * @return the sessionStorage entries
+     */
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    @Override
+    public String toString() {
+        return url + " (" + cookies.size() + " cookies, " + localStorage.size() + " localStorage and "
+                + sessionStorage.size() + " sessionStorage entries)";
+    }
+}
@@ -0,0 +1,208 @@
+package abstracta.framework.selenium;
+
+import abstracta.utils.LoggerManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Manages the temporary Chrome user data directories used by the sessions.
+ * A session profile is cloned from a pre-seeded template so Chrome skips its first-run profile setup,
+ * is deleted when the session quits, and profiles orphaned by killed JVMs are removed on startup.
+ * A new profile is claimed with an owner file before it is filled, so JVMs starting together, such as the shards
+ * of a sharded run, never reap each other's profiles.
+ * Profiles are copied rather than hard-linked because Chrome updates its SQLite files in place,
+ * which would corrupt a template shared through hard links.
+ */
+final class ChromeProfiles {
+    private static final LoggerManager LOG = LoggerManager.getLogger(ChromeProfiles.class);
+    private static final Path TEMP_DIR = Paths.get(System.getProperty("java.io.tmpdir"));
+    private static final String PROFILE_PREFIX = "chrome-profile-";
+    private static final Path TEMPLATE_DIR = TEMP_DIR.resolve(PROFILE_PREFIX + "template");
+    private static final String OWNER_FILE = ".abstracta-owner";
+    private static final Duration OWNER_GRACE = Duration.ofMinutes(1);
+    /**
+     * Entries holding browsing state or process locks; never carried into the template.
+     */
+    private static final Set<String> STATE_ENTRIES = Set.of("Cookies", "Cookies-journal", "History",
+            "History-journal", "Local Storage", "Session Storage", "Sessions", "IndexedDB", "Service Worker",
+            "Web Data", "Web Data-journal", "Login Data", "Login Data-journal", "Visited Links", "Top Sites",
+            "Top Sites-journal", "Network", "Cache", "Code Cache", "GPUCache", "Crashpad", "BrowserMetrics",
+            "SingletonLock", "SingletonSocket", "SingletonCookie", OWNER_FILE);
+
+    static {
+        reapOrphans();
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ChromeProfiles() {
+    }
+
+    /**
+     * Creates the user data directory of a new session.
+     *
+     * @param useTemplate whether to clone the template when one exists
+     * @return the new profile directory
+     */
+    static Path createSessionProfile(boolean useTemplate) {
+        Path profile = TEMP_DIR.resolve(PROFILE_PREFIX + UUID.randomUUID());
+        try {
+            // Claim the directory before filling it, so the reaper of another JVM starting now leaves it alone
+            Files.createDirectories(profile);
+            Files.writeString(profile.resolve(OWNER_FILE), String.valueOf(ProcessHandle.current().pid()),
+                    StandardCharsets.UTF_8);
+            if (useTemplate && Files.isDirectory(TEMPLATE_DIR)) {
+                copyTree(TEMPLATE_DIR, profile);
+                LOG.info("Cloned Chrome profile template into {}", profile);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to prepare Chrome profile {}: {}", profile, e.getMessage());
+        }
+        return profile;
+    }
+
+    /**
+     * Disposes of a session profile after its browser has quit.
+     * The first profile released while no template exists is stripped of browsing state and becomes the template.
+     *
+     * @param profile      the profile directory of the quit session
+     * @param seedTemplate whether the profile may seed a missing template
+     */
+    static void release(Path profile, boolean seedTemplate) {
+        if (seedTemplate && !Files.isDirectory(TEMPLATE_DIR)) {
+            promoteToTemplate(profile);
+        }
+        delete(profile);
+    }
+
+    /**
+     * Deletes session profiles whose owning JVM is no longer running.
+     */
+    static void reapOrphans() {
+        try (DirectoryStream<Path> profiles = Files.newDirectoryStream(TEMP_DIR, PROFILE_PREFIX + "*")) {
+            for (Path profile : profiles) {
+                if (!profile.equals(TEMPLATE_DIR) && !isOwnerAlive(profile)) {
+                    LOG.info("Deleting orphaned Chrome profile {}", profile);
+                    delete(profile);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to scan for orphaned Chrome profiles: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the JVM that created the profile is still running.
+     * Profiles without an owner file are treated as orphans, unless they were created within {@link #OWNER_GRACE}
+     * and another JVM may be about to write it.
+     *
+     * @param profile the profile directory
+     * @return true if the owner process is alive
+     */
+    private static boolean isOwnerAlive(Path profile) {
+        try {
+            long pid = Long.parseLong(Files.readString(profile.resolve(OWNER_FILE), StandardCharsets.UTF_8).trim());
+            return ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+        } catch (IOException | NumberFormatException e) {
+            return isRecent(profile);
+        }
+    }
+
+    /**
+     * Checks whether a profile was last modified within the grace period of its owner file.
+     *
+     * @param profile the profile directory
+     * @return true if the profile is younger than the grace period
+     */
+    private static boolean isRecent(Path profile) {
+        try {
+            return Files.getLastModifiedTime(profile).toInstant().isAfter(Instant.now().minus(OWNER_GRACE));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Copies a profile without its browsing state into a staging directory and moves it into place as the template.
+     *
+     * @param profile the profile to seed the template from
+     */
+    private static void promoteToTemplate(Path profile) {
+        Path staging = TEMP_DIR.resolve("chrome-template-staging-" + UUID.randomUUID());
+        try {
+            copyTree(profile, staging);
+            Files.move(staging, TEMPLATE_DIR, StandardCopyOption.ATOMIC_MOVE);
+            LOG.info("Seeded Chrome profile template from {}", profile);
+        } catch (IOException e) {
+            LOG.info("Chrome profile template not seeded: {}", e.getMessage());
+            delete(staging);
+        }
+    }
+
+    /**
+     * Recursively copies a profile, skipping browsing state and lock files.
+     *
+     * @param source the directory to copy
+     * @param target the directory to create
+     * @throws IOException if the copy fails
+     */
+    private static void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(source) && STATE_ENTRIES.contains(dir.getFileName().toString())) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (attrs.isRegularFile() && !STATE_ENTRIES.contains(file.getFileName().toString())) {
+                    Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Recursively deletes a directory, logging instead of failing on files that cannot be removed.
+     *
+     * @param dir the directory to delete
+     */
+    private static void delete(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            LOG.warn("Unable to delete Chrome profile {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -1,29 +1,89 @@
 package abstracta.framework.selenium;
 
+import abstracta.framework.Settings;
 import abstracta.utils.LoggerManager;
+import org.openqa.selenium.PageLoadStrategy;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.time.Duration;
-import java.util.Properties;
 
 /**
- * Singleton class to manage WebDriver configuration settings.
+ * Singleton class holding the WebDriver configuration settings.
+ * Every setting is read from {@link Settings} and parsed once, when the instance is built;
+ * the instance is immutable afterwards, so the getters are plain field reads safe to call from any thread.
  */
 public class DriverConfig {
-    private static final LoggerManager LOG = LoggerManager.getInstance();
-    private static final String WEB_DRIVER_FILE_PATH = System.getProperty("user.dir") + File.separator + "src"
-            + File.separator + "main" + File.separator + "resources" + File.separator + "webdriver.properties";
-    private static DriverConfig instance;
-    private String browser;
-    private Properties properties;
+    private static final LoggerManager LOG = LoggerManager.getLogger(DriverConfig.class);
+    private final String browser;
+    private final Duration implicitWaitTime;
+    private final Duration timeout;
+    private final Duration initialPollingTime;
+    private final Duration maxPollingTime;
+    private final boolean headlessMode;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final int poolSize;
+    private final int poolMaxUses;
+    private final boolean prelaunch;
+    private final boolean sharedService;
+    private final boolean profileTemplate;
+    private final String waitMode;
+    private final String networkProfile;
+    private final String httpArchiveMode;
+    private final String httpArchiveDir;
+    private final boolean telemetry;
+    private final boolean trace;
+    private final String telemetryDir;
 
     /**
-     * Protected constructor to initialize the DriverConfig instance.
+     * Protected constructor to initialize the DriverConfig instance from the settings snapshot.
      */
     protected DriverConfig() {
-        initialize();
+        this(Settings.getInstance());
+    }
+
+    /**
+     * Protected constructor to initialize the DriverConfig instance from the given settings.
+     *
+     * @param settings the settings to read
+     */
+    protected DriverConfig(Settings settings) {
+        browser = settings.getString("browser", "chrome").toLowerCase();
+        implicitWaitTime = settings.getMillis("webdriver.implicit.wait.time");
+        timeout = settings.getMillis("webdriver.timeout");
+        initialPollingTime = settings.getMillis("webdriver.polling.initial");
+        maxPollingTime = settings.getMillis("webdriver.polling.max");
+        headlessMode = settings.getBoolean("webdriver.headless.mode");
+        pageLoadStrategy = parsePageLoadStrategy(settings.getString("webdriver.page.load.strategy", "normal"));
+        poolSize = settings.getInt("webdriver.pool.size");
+        poolMaxUses = settings.getInt("webdriver.pool.max.uses");
+        prelaunch = settings.getBoolean("webdriver.prelaunch");
+        sharedService = settings.getBoolean("webdriver.service.shared");
+        profileTemplate = settings.getBoolean("webdriver.chrome.profile.template");
+        waitMode = settings.getString("webdriver.wait.mode");
+        networkProfile = settings.getString("webdriver.network.profile", "full-fidelity");
+        httpArchiveMode = settings.getString("webdriver.http.archive", "off");
+        httpArchiveDir = settings.getString("webdriver.http.archive.dir", "recordings");
+        telemetry = settings.getBoolean("webdriver.telemetry");
+        trace = settings.getBoolean("webdriver.trace");
+        telemetryDir = settings.getString("webdriver.telemetry.dir", "reports/telemetry");
+        LOG.info("Selected browser is --> {}", browser);
+        LOG.info("WebDriver config: timeout={}, polling={}..{}, headless={}, page load={}, pool={}x{}, wait mode={}",
+                timeout, initialPollingTime, maxPollingTime, headlessMode, pageLoadStrategy, poolSize, poolMaxUses,
+                waitMode);
+    }
+
+    /**
+     * Parses a page-load strategy name.
+     *
+     * @param value {@code normal}, {@code eager} or {@code none}, in any case
+     * @return the page-load strategy
+     * @throws IllegalStateException if the name is not a page-load strategy
+     */
+    private static PageLoadStrategy parsePageLoadStrategy(String value) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.toLowerCase());
+        if (strategy == null) {
+            throw new IllegalStateException("Unsupported page load strategy: " + value);
+        }
+        return strategy;
     }
 
     /**
@@ -32,34 +92,14 @@ public class DriverConfig {
      * @return the singleton instance of DriverConfig
      */
     public static DriverConfig getInstance() {
-        if (instance == null || instance.properties == null) {
-            instance = new DriverConfig();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
-     * Initializes the DriverConfig by reading the WebDriver configuration properties.
+     * Initialization-on-demand holder, so concurrent scenario threads never build two configurations.
      */
-    private void initialize() {
-        LOG.info("Reading WebDriver config");
-        String selectedBrowser = System.getProperty("browser");
-        if ((selectedBrowser == null) || (selectedBrowser.isEmpty())) {
-            browser = "chrome";
-        } else {
-            browser = selectedBrowser.toLowerCase();
-        }
-        LOG.info("Selected browser is --> " + browser);
-
-        properties = new Properties();
-        Properties webDriverProperties = new Properties();
-        try {
-            webDriverProperties.load(new FileInputStream(WEB_DRIVER_FILE_PATH));
-            LOG.info("Loaded WebDriver properties from file: " + WEB_DRIVER_FILE_PATH);
-        } catch (IOException e) {
-            LOG.error("Unable to load properties file: " + e.getMessage());
-        }
-        properties.putAll(webDriverProperties);
+    private static final class Holder {
+        private static final DriverConfig INSTANCE = new DriverConfig();
     }
 
     /**
@@ -68,31 +108,16 @@ public class DriverConfig {
      * @return the browser name
      */
     public String getBrowser() {
-        LOG.info("Getting browser: " + browser);
         return browser;
     }
 
-    /**
-     * Gets the WebDriver setting for the specified key.
-     *
-     * @param setting the key of the setting
-     * @return the value of the setting
-     */
-    private String getWebDriverSetting(String setting) {
-        String value = (String) properties.get(setting);
-        LOG.info("Getting WebDriver setting for key: " + setting + " --> " + value);
-        return value;
-    }
-
     /**
      * Returns the implicit wait time.
      *
      * @return the implicit wait time
      */
     public Duration getImplicitWaitTime() {
-        long millis = Long.parseLong(getWebDriverSetting("webdriver.implicit.wait.time"));
-        LOG.info("Getting implicit wait time: " + millis + " milliseconds");
-        return Duration.ofMillis(millis);
+        return implicitWaitTime;
     }
 
     /**
@@ -101,20 +126,25 @@ public class DriverConfig {
      * @return the timeout duration
      */
     public Duration getTimeout() {
-        long millis = Long.parseLong(getWebDriverSetting("webdriver.timeout"));
-        LOG.info("Getting timeout duration: " + millis + " milliseconds");
-        return Duration.ofMillis(millis);
+        return timeout;
     }
 
     /**
-     * Returns the polling time duration.
+     * Returns the delay before a wait evaluates its condition for the second time.
      *
-     * @return the polling time duration
+     * @return the initial polling duration
      */
-    public Duration getPollingTime() {
-        long millis = Long.parseLong(getWebDriverSetting("webdriver.polling.time"));
-        LOG.info("Getting polling time duration: " + millis + " milliseconds");
-        return Duration.ofMillis(millis);
+    public Duration getInitialPollingTime() {
+        return initialPollingTime;
+    }
+
+    /**
+     * Returns the longest delay a wait backs off to between two evaluations of its condition.
+     *
+     * @return the maximum polling duration
+     */
+    public Duration getMaxPollingTime() {
+        return maxPollingTime;
     }
 
     /**
@@ -123,8 +153,129 @@ public class DriverConfig {
      * @return true if headless mode is enabled, false otherwise
      */
     public boolean getHeadlessMode() {
-        boolean headlessMode = Boolean.parseBoolean(getWebDriverSetting("webdriver.headless.mode"));
-        LOG.info("Getting headless mode: " + headlessMode);
         return headlessMode;
     }
+
+    /**
+     * Returns how long navigation blocks: {@code normal} until the window load event, {@code eager} until
+     * the DOM is parsed, {@code none} not at all. Page objects wait for their own readiness afterwards.
+     *
+     * @return the page-load strategy
+     */
+    public PageLoadStrategy getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    /**
+     * Returns the maximum number of idle browser sessions kept in the pool.
+     * A value of zero disables pooling and every session is quit after its scenario.
+     *
+     * @return the pool size
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Returns how many scenarios may reuse a browser session before it is retired.
+     *
+     * @return the maximum number of uses per session
+     */
+    public int getPoolMaxUses() {
+        return poolMaxUses;
+    }
+
+    /**
+     * Returns whether browsers are booted speculatively on a background thread
+     * before the scenarios ask for them.
+     *
+     * @return true if prelaunch is enabled, false otherwise
+     */
+    public boolean isPrelaunchEnabled() {
+        return prelaunch;
+    }
+
+    /**
+     * Returns whether Chrome and Edge sessions share one driver service process per JVM.
+     *
+     * @return true if the driver service is shared, false to start one per session
+     */
+    public boolean isSharedServiceEnabled() {
+        return sharedService;
+    }
+
+    /**
+     * Returns whether Chrome sessions clone their profile from a pre-seeded template.
+     *
+     * @return true if the profile template is used, false to start every session with an empty profile
+     */
+    public boolean isProfileTemplateEnabled() {
+        return profileTemplate;
+    }
+
+    /**
+     * Returns how page objects wait for their elements: {@code polling} checks them over the wire,
+     * {@code event} lets the browser signal readiness through a MutationObserver.
+     *
+     * @return the wait mode
+     */
+    public String getWaitMode() {
+        return waitMode;
+    }
+
+    /**
+     * Returns the name of the {@link NetworkProfile} applied to scenarios without a {@code @network:} tag.
+     *
+     * @return the default network profile name
+     */
+    public String getNetworkProfile() {
+        return networkProfile;
+    }
+
+    /**
+     * Returns whether the traffic to the environment goes through the HTTP archive proxy:
+     * {@code off}, {@code record} to capture it, or {@code replay} to serve it from the archive.
+     *
+     * @return the HTTP archive mode
+     */
+    public String getHttpArchiveMode() {
+        return httpArchiveMode;
+    }
+
+    /**
+     * Returns the directory holding one HTTP archive per scenario.
+     *
+     * @return the HTTP archive directory
+     */
+    public String getHttpArchiveDir() {
+        return httpArchiveDir;
+    }
+
+    /**
+     * Returns whether the drivers handed to the page objects time every command they issue.
+     *
+     * @return true if command telemetry is enabled, false otherwise
+     */
+    public boolean isTelemetryEnabled() {
+        return telemetry;
+    }
+
+    /**
+     * Returns whether scenarios, steps, page-object interactions and WebDriver commands are recorded
+     * as a trace-event timeline.
+     *
+     * @return true if tracing is enabled, false otherwise
+     */
+    public boolean isTraceEnabled() {
+        return trace;
+    }
+
+    /**
+     * Returns the directory the command telemetry and the traces are written to.
+     *
+     * @return the telemetry directory
+     */
+    public String getTelemetryDir() {
+        return telemetryDir;
+    }
 }
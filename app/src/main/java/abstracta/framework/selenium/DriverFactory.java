@@ -0,0 +1,160 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxDriverLogLevel;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+import abstracta.utils.LoggerManager;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds new browser sessions based on the browser configuration.
+ */
+final class DriverFactory {
+    private static final LoggerManager LOG = LoggerManager.getLogger(DriverFactory.class);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DriverFactory() {
+    }
+
+    /**
+     * Launches a new WebDriver session for the configured browser.
+     *
+     * @param config the WebDriver configuration
+     * @return a new session with a fully configured WebDriver
+     */
+    static PooledDriver createSession(DriverConfig config) {
+        WebDriver driver;
+        Path profileDir = null;
+        switch (config.getBrowser()) {
+            case "chrome" -> {
+                LOG.info("Setting up ChromeDriver");
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.setPageLoadStrategy(config.getPageLoadStrategy());
+                chromeOptions.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
+
+                chromeOptions.addArguments("--password-store=basic");
+                Map<String, Object> prefs = new HashMap<>();
+                prefs.put("credentials_enable_service", false);
+                prefs.put("profile.password_manager_enabled", false);
+                chromeOptions.setExperimentalOption("prefs", prefs);
+
+                if (config.getHeadlessMode()) {
+                    chromeOptions.addArguments("--headless");
+                }
+                profileDir = ChromeProfiles.createSessionProfile(config.isProfileTemplateEnabled());
+                chromeOptions.addArguments("--user-data-dir=" + profileDir, "--no-sandbox",
+                        "--disable-dev-shm-usage");
+                chromeOptions.addArguments(
+                        "--headless=new", // Modo headless moderno
+                        "--disable-gpu",
+                        "--window-size=1920,1080",
+                        "--ignore-certificate-errors",
+                        "--disable-extensions",
+                        "--disable-popup-blocking");
+                try {
+                    if (config.isSharedServiceEnabled()) {
+                        URL serviceUrl = DriverServices.getUrl("chrome", DriverFactory::createChromeService, chromeOptions);
+                        driver = SharedServiceChromiumDriver.chrome(serviceUrl, chromeOptions);
+                    } else {
+                        driver = new ChromeDriver(createChromeService(), chromeOptions);
+                    }
+                } catch (RuntimeException e) {
+                    ChromeProfiles.release(profileDir, false);
+                    throw e;
+                }
+                LOG.info("ChromeDriver initialized");
+            }
+
+            case "edge" -> {
+                LOG.info("Setting up EdgeDriver");
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.setPageLoadStrategy(config.getPageLoadStrategy());
+                edgeOptions.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
+
+                edgeOptions.addArguments("--password-store=basic");
+                Map<String, Object> prefs = new HashMap<>();
+                prefs.put("credentials_enable_service", false);
+                prefs.put("profile.password_manager_enabled", false);
+                edgeOptions.setExperimentalOption("prefs", prefs);
+
+                if (config.getHeadlessMode()) {
+                    edgeOptions.addArguments("--headless");
+                }
+
+                if (config.isSharedServiceEnabled()) {
+                    URL serviceUrl = DriverServices.getUrl("edge", DriverFactory::createEdgeService, edgeOptions);
+                    driver = SharedServiceChromiumDriver.edge(serviceUrl, edgeOptions);
+                } else {
+                    driver = new EdgeDriver(createEdgeService(), edgeOptions);
+                }
+                LOG.info("EdgeDriver initialized");
+            }
+            case "firefox" -> {
+                // geckodriver serves a single session per process, so it is never shared
+                LOG.info("Setting up FirefoxDriver");
+                String firefoxLogFilePath = System.getProperty("user.dir") + File.separator + "logs" + File.separator
+                        + "firefox.log";
+                DriverService.Builder<GeckoDriverService, GeckoDriverService.Builder> builder = new GeckoDriverService.Builder()
+                        .withLogFile(new File(firefoxLogFilePath));
+                GeckoDriverService service = builder.build();
+
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.setPageLoadStrategy(config.getPageLoadStrategy());
+                firefoxOptions.setLogLevel(FirefoxDriverLogLevel.FATAL);
+                if (config.getHeadlessMode()) {
+                    firefoxOptions.addArguments("--headless");
+                }
+
+                driver = new FirefoxDriver(service, firefoxOptions);
+                LOG.info("FirefoxDriver initialized");
+            }
+            default -> {
+                LOG.error("Unsupported browser: {}", config.getBrowser());
+                throw new IllegalArgumentException("Unsupported browser: " + config.getBrowser());
+            }
+        }
+
+        driver.manage().window().maximize();
+        driver.manage().timeouts().implicitlyWait(config.getImplicitWaitTime());
+        return new PooledDriver(driver, profileDir, config.isProfileTemplateEnabled());
+    }
+
+    /**
+     * Builds a new, not yet started ChromeDriverService.
+     *
+     * @return the new service
+     */
+    private static ChromeDriverService createChromeService() {
+        DriverService.Builder<ChromeDriverService, ChromeDriverService.Builder> builder = new ChromeDriverService.Builder()
+                .withSilent(true);
+        return builder.build();
+    }
+
+    /**
+     * Builds a new, not yet started EdgeDriverService.
+     *
+     * @return the new service
+     */
+    private static EdgeDriverService createEdgeService() {
+        DriverService.Builder<EdgeDriverService, EdgeDriverService.Builder> builder = new EdgeDriverService.Builder()
+                .withSilent(true);
+        return builder.build();
+    }
+}
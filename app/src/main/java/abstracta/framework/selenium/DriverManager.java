@@ -1,36 +1,52 @@
 package abstracta.framework.selenium;
 
+import jdk.jfr.FlightRecorder;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeDriverService;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeDriverService;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxDriverLogLevel;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.firefox.GeckoDriverService;
-import org.openqa.selenium.remote.service.DriverService;
-import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.Wait;
+import abstracta.framework.telemetry.CommandTelemetry;
+import abstracta.framework.telemetry.SessionEvent;
+import abstracta.framework.telemetry.TraceRecorder;
 import abstracta.utils.LoggerManager;
 
-import java.io.File;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 
 /**
- * Singleton class to manage Selenium WebDriver instances.
+ * Thread-confined registry of Selenium WebDriver instances.
+ * Every thread (and therefore every Cucumber scenario running on it) owns its own driver,
+ * so scenarios can be executed in parallel without sharing a browser session.
+ * Drivers are borrowed from the {@link DriverPool} and given back when the scenario ends.
+ * When telemetry or tracing is enabled, or a Flight Recorder recording is running, the driver handed out
+ * is decorated so every command is timed. The time each thread holds its session is recorded as a {@link SessionEvent}.
  */
 public class DriverManager {
-    private static final LoggerManager LOG = LoggerManager.getInstance();
+    private static final LoggerManager LOG = LoggerManager.getLogger(DriverManager.class);
     public static final DriverConfig DRIVER_CONFIG = DriverConfig.getInstance();
-    private static DriverManager instance;
+    private static final ThreadLocal<DriverManager> INSTANCES = new ThreadLocal<>();
+    private static final String CAPTURE_STORAGE_SCRIPT = """
+            var dump = function (storage) {
+              var entries = {};
+              for (var i = 0; i < storage.length; i++) {
+                var key = storage.key(i);
+                entries[key] = storage.getItem(key);
+              }
+              return entries;
+            };
+            return {url: window.location.href, local: dump(window.localStorage), session: dump(window.sessionStorage)};
+            """;
+    private static final String RESTORE_STORAGE_SCRIPT = """
+            var fill = function (storage, entries) {
+              storage.clear();
+              Object.keys(entries).forEach(function (key) { storage.setItem(key, entries[key]); });
+            };
+            fill(window.localStorage, arguments[0]);
+            fill(window.sessionStorage, arguments[1]);
+            """;
+    private PooledDriver session;
     private WebDriver driver;
-    private Wait<WebDriver> wait;
+    private AdaptiveWait wait;
+    private SessionEvent sessionEvent;
 
     /**
      * Protected constructor to initialize the DriverManager instance.
@@ -40,113 +56,49 @@ public class DriverManager {
     }
 
     /**
-     * Returns the singleton instance of DriverManager.
+     * Returns the DriverManager bound to the current thread, creating it on first use.
      *
-     * @return the singleton instance of DriverManager
+     * @return the DriverManager of the current thread
      */
     public static DriverManager getInstance() {
+        DriverManager instance = INSTANCES.get();
         if (instance == null || instance.driver == null) {
             instance = new DriverManager();
+            INSTANCES.set(instance);
         }
         return instance;
     }
 
     /**
-     * Initializes the WebDriver based on the browser configuration.
+     * Borrows a WebDriver from the pool and configures the wait for it.
+     * A session that cannot be prepared, for example a pooled browser that died, is retired rather than leaked.
+     *
+     * @throws RuntimeException if the session cannot be prepared
      */
     private void initialize() {
         LOG.info("Initializing Selenium WebDriver Manager");
-        switch (DRIVER_CONFIG.getBrowser()) {
-            case "chrome" -> {
-                LOG.info("Setting up ChromeDriver");
-                DriverService.Builder<ChromeDriverService, ChromeDriverService.Builder> builder = new ChromeDriverService.Builder()
-                        .withSilent(true);
-                ChromeDriverService service = builder.build();
-
-                ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.setPageLoadStrategy(PageLoadStrategy.NORMAL);
-                chromeOptions.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
-
-                chromeOptions.addArguments("--password-store=basic");
-                Map<String, Object> prefs = new HashMap<>();
-                prefs.put("credentials_enable_service", false);
-                prefs.put("profile.password_manager_enabled", false);
-                chromeOptions.setExperimentalOption("prefs", prefs);
-
-                if (DRIVER_CONFIG.getHeadlessMode()) {
-                    chromeOptions.addArguments("--headless");
-                }
-                String uniqueProfileDir = System.getProperty("java.io.tmpdir")
-                        + File.separator + "chrome-profile-" + UUID.randomUUID().toString();
-                chromeOptions.addArguments("--user-data-dir=" + uniqueProfileDir, "--no-sandbox",
-                        "--disable-dev-shm-usage");
-                chromeOptions.addArguments(
-                        "--headless=new", // Modo headless moderno
-                        "--disable-gpu",
-                        "--window-size=1920,1080",
-                        "--ignore-certificate-errors",
-                        "--disable-extensions",
-                        "--disable-popup-blocking");
-                driver = new ChromeDriver(service, chromeOptions);
-                LOG.info("ChromeDriver initialized");
-            }
-
-            case "edge" -> {
-                LOG.info("Setting up EdgeDriver");
-                DriverService.Builder<EdgeDriverService, EdgeDriverService.Builder> builder = new EdgeDriverService.Builder()
-                        .withSilent(true);
-                EdgeDriverService service = builder.build();
-
-                EdgeOptions edgeOptions = new EdgeOptions();
-                edgeOptions.setPageLoadStrategy(PageLoadStrategy.NORMAL);
-                edgeOptions.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
-
-                edgeOptions.addArguments("--password-store=basic");
-                Map<String, Object> prefs = new HashMap<>();
-                prefs.put("credentials_enable_service", false);
-                prefs.put("profile.password_manager_enabled", false);
-                edgeOptions.setExperimentalOption("prefs", prefs);
-
-                if (DRIVER_CONFIG.getHeadlessMode()) {
-                    edgeOptions.addArguments("--headless");
-                }
-
-                driver = new EdgeDriver(service, edgeOptions);
-                LOG.info("EdgeDriver initialized");
-            }
-            case "firefox" -> {
-                LOG.info("Setting up FirefoxDriver");
-                String firefoxLogFilePath = System.getProperty("user.dir") + File.separator + "logs" + File.separator
-                        + "firefox.log";
-                DriverService.Builder<GeckoDriverService, GeckoDriverService.Builder> builder = new GeckoDriverService.Builder()
-                        .withLogFile(new File(firefoxLogFilePath));
-                GeckoDriverService service = builder.build();
-
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                firefoxOptions.setPageLoadStrategy(PageLoadStrategy.NORMAL);
-                firefoxOptions.setLogLevel(FirefoxDriverLogLevel.FATAL);
-                if (DRIVER_CONFIG.getHeadlessMode()) {
-                    firefoxOptions.addArguments("--headless");
-                }
-
-                driver = new FirefoxDriver(service, firefoxOptions);
-                LOG.info("FirefoxDriver initialized");
-            }
-            default -> {
-                LOG.error("Unsupported browser: " + DRIVER_CONFIG.getBrowser());
-                throw new IllegalArgumentException("Unsupported browser: " + DRIVER_CONFIG.getBrowser());
-            }
+        sessionEvent = new SessionEvent();
+        sessionEvent.begin();
+        long start = System.nanoTime();
+        session = DriverPool.getInstance().acquire();
+        sessionEvent.acquired(DRIVER_CONFIG.getBrowser(), System.nanoTime() - start);
+        try {
+            session.applyNetworkProfile(NetworkProfile.getDefault());
+            driver = CommandTelemetry.getInstance().isEnabled() || TraceRecorder.getInstance().isEnabled()
+                    || FlightRecorder.isInitialized()
+                    ? CommandTelemetry.getInstance().decorate(session.getWebDriver())
+                    : session.getWebDriver();
+            wait = new AdaptiveWait(driver, DRIVER_CONFIG.getTimeout(), DRIVER_CONFIG.getInitialPollingTime(),
+                    DRIVER_CONFIG.getMaxPollingTime());
+        } catch (RuntimeException e) {
+            LOG.error("Unable to prepare the WebDriver session, retiring it: {}", e.getMessage());
+            DriverPool.getInstance().retire(session);
+            sessionEvent.complete("failed");
+            session = null;
+            driver = null;
+            throw e;
         }
 
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(DRIVER_CONFIG.getImplicitWaitTime());
-        wait = new FluentWait<>(driver)
-                .withTimeout(DRIVER_CONFIG.getTimeout())
-                .pollingEvery(DRIVER_CONFIG.getPollingTime())
-                .ignoring(NoSuchElementException.class)
-                .ignoring(NotFoundException.class)
-                .ignoring(StaleElementReferenceException.class);
-
         LOG.info("WebDriver initialized and configured");
     }
 
@@ -156,42 +108,128 @@ public class DriverManager {
      * @return the WebDriver instance
      */
     public WebDriver getWebDriver() {
-        LOG.info("Returning WebDriver instance");
+        LOG.debug("Returning WebDriver instance");
         return driver;
     }
 
     /**
-     * Returns the FluentWait instance.
+     * Returns the explicit wait bound to the WebDriver.
      *
-     * @return the FluentWait instance
+     * @return the AdaptiveWait instance
      */
-    public Wait<WebDriver> getFluentWait() {
-        LOG.info("Returning FluentWait instance");
+    public AdaptiveWait getWait() {
+        LOG.debug("Returning AdaptiveWait instance");
         return wait;
     }
 
     /**
-     * Quits the WebDriver instance.
+     * Applies a network profile to the browser session, blocking the requests it lists until another
+     * profile is applied. Blocking is done by the browser, so the page never downloads the blocked resources.
+     *
+     * @param profile the network profile to apply
+     */
+    public void applyNetworkProfile(NetworkProfile profile) {
+        session.applyNetworkProfile(profile);
+    }
+
+    /**
+     * Captures the cookies, web storage and URL of the current page in one script call and one cookie query.
+     *
+     * @param excludedCookies names of the cookies left out of the snapshot, such as server session ids
+     * @return the browser state
+     */
+    @SuppressWarnings("unchecked")
+    public BrowserState captureState(Set<String> excludedCookies) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(CAPTURE_STORAGE_SCRIPT);
+        List<Cookie> cookies = driver.manage().getCookies().stream()
+                .filter(cookie -> !excludedCookies.contains(cookie.getName()))
+                .toList();
+        BrowserState state = new BrowserState((String) storage.get("url"), cookies,
+                toStrings((Map<String, Object>) storage.get("local")),
+                toStrings((Map<String, Object>) storage.get("session")));
+        LOG.info("Captured browser state {}", state);
+        return state;
+    }
+
+    /**
+     * Restores the cookies and web storage of a snapshot into the current page, which must be on the same origin.
+     * Cookies are set without their domain and secure flag, so they apply to whichever host serves the origin.
+     * The browser is not navigated; open {@link BrowserState#getUrl()} or an equivalent URL afterwards.
+     *
+     * @param state the browser state to restore
+     */
+    public void restoreState(BrowserState state) {
+        for (Cookie cookie : state.getCookies()) {
+            driver.manage().deleteCookieNamed(cookie.getName());
+            driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                    .path(cookie.getPath())
+                    .expiresOn(cookie.getExpiry())
+                    .isHttpOnly(cookie.isHttpOnly())
+                    .build());
+        }
+        ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_SCRIPT, state.getLocalStorage(),
+                state.getSessionStorage());
+        LOG.info("Restored browser state {}", state);
+    }
+
+    /**
+     * Converts the values of a storage dump to strings.
+     *
+     * @param entries the storage entries returned by the script
+     * @return the entries as strings
+     */
+    private static Map<String, String> toStrings(Map<String, Object> entries) {
+        Map<String, String> strings = new HashMap<>();
+        entries.forEach((key, value) -> strings.put(key, String.valueOf(value)));
+        return strings;
+    }
+
+    /**
+     * Quits the WebDriver instance instead of returning it to the pool.
      */
     public void quitWebDriver() {
-        try {
-            LOG.info("Closing WebDriver");
-            if (driver != null) {
-                driver.quit();
-                driver = null;
-            }
-        } catch (Exception e) {
-            LOG.error("Failed to close WebDriver: " + e.getMessage());
+        LOG.info("Closing WebDriver");
+        if (driver != null) {
+            DriverPool.getInstance().retire(session);
+            sessionEvent.complete("quit");
+            session = null;
+            driver = null;
+        }
+    }
+
+    /**
+     * Gives the WebDriver instance back to the pool so the next scenario can reuse it.
+     */
+    public void releaseWebDriver() {
+        LOG.info("Releasing WebDriver to pool");
+        if (driver != null) {
+            DriverPool.getInstance().release(session);
+            sessionEvent.complete("released");
+            session = null;
+            driver = null;
+        }
+    }
+
+    /**
+     * Releases the WebDriver of the current thread to the pool and unbinds the DriverManager.
+     */
+    public static void releaseInstance() {
+        DriverManager instance = INSTANCES.get();
+        if (instance != null) {
+            instance.releaseWebDriver();
+            INSTANCES.remove();
         }
     }
 
     /**
-     * Resets the DriverManager instance.
+     * Resets the DriverManager instance bound to the current thread.
      */
     public static void resetInstance() {
+        DriverManager instance = INSTANCES.get();
         if (instance != null) {
             instance.quitWebDriver();
-            instance = null;
+            INSTANCES.remove();
         }
     }
 }
@@ -0,0 +1,201 @@
+package abstracta.framework.selenium;
+
+import abstracta.utils.LoggerManager;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded pool of warm browser sessions shared by all scenario threads.
+ * Sessions are sanitized when a scenario releases them and handed to the next scenario,
+ * so only the first scenario of each thread pays for launching the browser.
+ * A session is retired after the configured number of uses or as soon as a health check fails.
+ * When prelaunch is enabled, sessions are also booted speculatively on a background thread so
+ * a scenario usually finds a browser that is already running.
+ */
+public class DriverPool {
+    private static final LoggerManager LOG = LoggerManager.getLogger(DriverPool.class);
+    private final DriverConfig config;
+    private final BlockingDeque<PooledDriver> idleSessions;
+    private final ConcurrentLinkedQueue<Future<PooledDriver>> pendingLaunches = new ConcurrentLinkedQueue<>();
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "driver-prelaunch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Protected constructor to initialize the pool and register its shutdown hook.
+     *
+     * @param config the WebDriver configuration used to size the pool and launch sessions
+     */
+    protected DriverPool(DriverConfig config) {
+        this.config = config;
+        this.idleSessions = new LinkedBlockingDeque<>(Math.max(1, config.getPoolSize()));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Returns the singleton instance of DriverPool.
+     *
+     * @return the singleton instance of DriverPool
+     */
+    public static DriverPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates the pool the first time a session is requested.
+     */
+    private static final class Holder {
+        private static final DriverPool INSTANCE = new DriverPool(DriverConfig.getInstance());
+    }
+
+    /**
+     * Hands out a warm session if a healthy one is idle, otherwise launches a new browser.
+     *
+     * @return a session ready to be used by a scenario
+     */
+    public PooledDriver acquire() {
+        PooledDriver session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            if (session.isHealthy()) {
+                LOG.info("Reusing pooled WebDriver, uses so far: {}", session.getUses());
+                return handOut(session);
+            }
+            retire(session);
+        }
+        Future<PooledDriver> pending = pendingLaunches.poll();
+        if (pending != null) {
+            session = awaitLaunch(pending);
+            if (session != null) {
+                LOG.info("Using speculatively launched WebDriver");
+                return handOut(session);
+            }
+        }
+        LOG.info("No idle WebDriver in pool, launching a new browser");
+        return handOut(launch());
+    }
+
+    /**
+     * Starts booting a browser on the background thread if prelaunch is enabled and
+     * the pool does not already hold or expect enough sessions.
+     * Safe to call at any time; it never blocks the caller.
+     */
+    public void prelaunch() {
+        if (!config.isPrelaunchEnabled()) {
+            return;
+        }
+        synchronized (pendingLaunches) {
+            if (!pendingLaunches.isEmpty() || idleSessions.size() >= Math.max(1, config.getPoolSize())) {
+                return;
+            }
+            LOG.info("Prelaunching a WebDriver in the background");
+            pendingLaunches.add(launcher.submit(this::launch));
+        }
+    }
+
+    /**
+     * Marks the session as used and keeps the next one booting ahead of demand.
+     *
+     * @param session the session handed to the scenario
+     * @return the same session
+     */
+    private PooledDriver handOut(PooledDriver session) {
+        session.markUsed();
+        prelaunch();
+        return session;
+    }
+
+    /**
+     * Launches a new browser session.
+     *
+     * @return the new session
+     */
+    private PooledDriver launch() {
+        return DriverFactory.createSession(config);
+    }
+
+    /**
+     * Waits for a speculative launch to finish.
+     *
+     * @param pending the background launch
+     * @return the launched session, or null if the launch failed
+     */
+    private PooledDriver awaitLaunch(Future<PooledDriver> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.cancel(true);
+        } catch (ExecutionException e) {
+            LOG.warn("Background WebDriver launch failed: {}", e.getCause().getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Returns a session to the pool once a scenario has finished with it.
+     * The session is retired instead when it reached its maximum number of uses,
+     * cannot be sanitized, or the pool is already full.
+     *
+     * @param session the session to release
+     */
+    public void release(PooledDriver session) {
+        if (config.getPoolSize() <= 0 || session.getUses() >= config.getPoolMaxUses()) {
+            retire(session);
+            return;
+        }
+        if (!session.sanitize() || !session.isHealthy()) {
+            retire(session);
+            return;
+        }
+        if (!idleSessions.offerFirst(session)) {
+            LOG.info("WebDriver pool is full");
+            retire(session);
+            return;
+        }
+        LOG.info("WebDriver returned to pool, idle sessions: {}", idleSessions.size());
+    }
+
+    /**
+     * Quits a session so it is never handed out again.
+     *
+     * @param session the session to retire
+     */
+    public void retire(PooledDriver session) {
+        LOG.info("Retiring WebDriver after {} use(s)", session.getUses());
+        session.quit();
+    }
+
+    /**
+     * Quits every idle and speculatively launched session, then stops the shared driver services.
+     * Called from a JVM shutdown hook at the end of the run.
+     */
+    public void shutdown() {
+        launcher.shutdown();
+        Future<PooledDriver> pending;
+        while ((pending = pendingLaunches.poll()) != null) {
+            try {
+                retire(pending.get(config.getTimeout().toMillis(), TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                LOG.warn("Discarding unfinished WebDriver launch: {}", e.getMessage());
+                pending.cancel(true);
+            }
+        }
+        PooledDriver session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            retire(session);
+        }
+        DriverServices.stopAll();
+    }
+}
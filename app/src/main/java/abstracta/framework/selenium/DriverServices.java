@@ -0,0 +1,92 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import abstracta.utils.LoggerManager;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one long-lived driver service process (chromedriver, msedgedriver) per browser for the whole JVM.
+ * Every session of that browser talks to the same process, so the process spawn and port wait
+ * are paid once per run instead of once per session. Services are stopped by {@link #stopAll()},
+ * which the {@link DriverPool} calls after quitting its sessions at JVM shutdown.
+ */
+final class DriverServices {
+    private static final LoggerManager LOG = LoggerManager.getLogger(DriverServices.class);
+    private static final Map<String, RunningService> SERVICES = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DriverServices() {
+    }
+
+    /**
+     * Returns the URL of the shared service for the browser, starting it on first use.
+     * The browser binary resolved by Selenium Manager is applied to the given options.
+     *
+     * @param browser the browser name the service belongs to
+     * @param factory builds a new, not yet started service
+     * @param options the options of the session about to be created
+     * @return the URL the service listens on
+     */
+    static URL getUrl(String browser, Supplier<? extends DriverService> factory, ChromiumOptions<?> options) {
+        RunningService running = SERVICES.computeIfAbsent(browser, key -> start(key, factory.get(), options));
+        if (running.browserPath != null) {
+            options.setBinary(running.browserPath);
+        }
+        return running.service.getUrl();
+    }
+
+    /**
+     * Stops every shared service.
+     */
+    static void stopAll() {
+        SERVICES.forEach((browser, running) -> {
+            LOG.info("Stopping shared driver service for {}", browser);
+            running.service.stop();
+        });
+        SERVICES.clear();
+    }
+
+    /**
+     * Resolves the driver executable and starts the service process.
+     *
+     * @param browser the browser name
+     * @param service the service to start
+     * @param options the session options, used to resolve the driver and browser paths
+     * @return the running service
+     */
+    private static RunningService start(String browser, DriverService service, ChromiumOptions<?> options) {
+        LOG.info("Starting shared driver service for {}", browser);
+        DriverFinder finder = new DriverFinder(service, options);
+        service.setExecutable(finder.getDriverPath());
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new WebDriverException("Unable to start driver service for " + browser, e);
+        }
+        LOG.info("Shared driver service for {} listening on {}", browser, service.getUrl());
+        return new RunningService(service, finder.hasBrowserPath() ? finder.getBrowserPath() : null);
+    }
+
+    /**
+     * A started service together with the browser binary Selenium Manager resolved for it.
+     */
+    private static final class RunningService {
+        private final DriverService service;
+        private final String browserPath;
+
+        private RunningService(DriverService service, String browserPath) {
+            this.service = service;
+            this.browserPath = browserPath;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package abstracta.framework.selenium;
+
+import abstracta.framework.Settings;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A named set of URL patterns the browser must not download during a scenario.
+ * Profiles are defined in the settings as {@code webdriver.network.profile.<name>}, a comma-separated list of
+ * patterns where {@code *} matches any characters, for example {@code *.png,*google-analytics.com*}.
+ * A profile defined empty blocks nothing; naming a profile that is not defined is an error, so a misspelled tag
+ * or setting cannot silently turn blocking off.
+ * The profile of a scenario is chosen with a {@code @network:<name>} tag, falling back to
+ * {@code webdriver.network.profile}.
+ */
+public final class NetworkProfile {
+    /**
+     * Prefix of the scenario tags that choose a profile.
+     */
+    public static final String TAG_PREFIX = "@network:";
+    private static final Map<String, NetworkProfile> PROFILES = new ConcurrentHashMap<>();
+    private final String name;
+    private final List<String> blockedUrls;
+
+    /**
+     * Private constructor to create a profile.
+     *
+     * @param name        the profile name
+     * @param blockedUrls the URL patterns to block
+     */
+    private NetworkProfile(String name, List<String> blockedUrls) {
+        this.name = name;
+        this.blockedUrls = blockedUrls;
+    }
+
+    /**
+     * Returns the profile with the given name, read from the settings on first use.
+     *
+     * @param name the profile name
+     * @return the profile
+     * @throws IllegalArgumentException if no {@code webdriver.network.profile.<name>} setting defines the profile
+     */
+    public static NetworkProfile named(String name) {
+        return PROFILES.computeIfAbsent(name, key -> {
+            String setting = "webdriver.network.profile." + key;
+            if (!Settings.getInstance().isDefined(setting)) {
+                throw new IllegalArgumentException("Undefined network profile '" + key + "': add " + setting
+                        + " to the settings or fix the " + TAG_PREFIX + " tag or webdriver.network.profile");
+            }
+            return new NetworkProfile(key, Arrays.stream(Settings.getInstance().getString(setting, "").split(","))
+                    .map(String::trim)
+                    .filter(pattern -> !pattern.isEmpty())
+                    .toList());
+        });
+    }
+
+    /**
+     * Returns the configured default profile.
+     *
+     * @return the default profile
+     */
+    public static NetworkProfile getDefault() {
+        return named(DriverManager.DRIVER_CONFIG.getNetworkProfile());
+    }
+
+    /**
+     * Returns the profile chosen by a {@code @network:<name>} tag, or the default profile when no tag chooses one.
+     *
+     * @param tags the tags of the scenario
+     * @return the profile of the scenario
+     * @throws IllegalArgumentException if the tag or the default names an undefined profile
+     */
+    public static NetworkProfile forTags(Collection<String> tags) {
+        return tags.stream()
+                .filter(tag -> tag.startsWith(TAG_PREFIX))
+                .findFirst()
+                .map(tag -> named(tag.substring(TAG_PREFIX.length())))
+                .orElseGet(NetworkProfile::getDefault);
+    }
+
+    /**
+     * Returns the profile name.
+     *
+     * @return the profile name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the URL patterns the profile blocks.
+     *
+     * @return the blocked URL patterns, empty if the profile blocks nothing
+     */
+    public List<String> getBlockedUrls() {
+        return blockedUrls;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + blockedUrls.size() + " blocked patterns)";
+    }
+}
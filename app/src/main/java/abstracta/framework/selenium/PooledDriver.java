@@ -0,0 +1,163 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import abstracta.utils.LoggerManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A browser session owned by the {@link DriverPool}.
+ * Tracks how many scenarios used the session and knows how to check and reset its state.
+ */
+public class PooledDriver {
+    private static final LoggerManager LOG = LoggerManager.getLogger(PooledDriver.class);
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+                    + "try { window.sessionStorage.clear(); } catch (e) {}";
+    private final WebDriver driver;
+    private final Path profileDir;
+    private final boolean seedTemplate;
+    private int uses;
+    private NetworkProfile networkProfile;
+
+    /**
+     * Wraps a freshly launched browser session.
+     *
+     * @param driver       the WebDriver of the session
+     * @param profileDir   the temporary user data directory of the browser, or null if it has none
+     * @param seedTemplate whether the profile may seed the Chrome profile template when the session quits
+     */
+    PooledDriver(WebDriver driver, Path profileDir, boolean seedTemplate) {
+        this.driver = driver;
+        this.profileDir = profileDir;
+        this.seedTemplate = seedTemplate;
+    }
+
+    /**
+     * Returns the WebDriver of the session.
+     *
+     * @return the WebDriver instance
+     */
+    public WebDriver getWebDriver() {
+        return driver;
+    }
+
+    /**
+     * Returns how many times the session has been handed out.
+     *
+     * @return the number of uses
+     */
+    public int getUses() {
+        return uses;
+    }
+
+    /**
+     * Records that the session has been handed out to a scenario.
+     */
+    void markUsed() {
+        uses++;
+    }
+
+    /**
+     * Checks that the browser still answers and has at least one window open.
+     *
+     * @return true if the session can be reused, false otherwise
+     */
+    boolean isHealthy() {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            LOG.warn("Health check failed for pooled WebDriver: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Removes the state left by the previous scenario: open alerts, extra tabs,
+     * web storage and cookies. The session ends on a blank page.
+     *
+     * @return true if the session was sanitized, false if it must be retired
+     */
+    boolean sanitize() {
+        try {
+            dismissAlert();
+            closeExtraWindows();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.manage().deleteAllCookies();
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (Exception e) {
+            LOG.warn("Unable to sanitize pooled WebDriver: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Makes the browser drop the requests matching the profile, through the DevTools protocol.
+     * The blocklist survives between scenarios, so nothing is sent when the profile is already applied.
+     * Only Chromium browsers support it; other browsers download everything.
+     *
+     * @param profile the network profile to apply
+     */
+    void applyNetworkProfile(NetworkProfile profile) {
+        if (profile == networkProfile) {
+            return;
+        }
+        if (!(driver instanceof HasCdp cdp)) {
+            if (!profile.getBlockedUrls().isEmpty()) {
+                LOG.warn("Network profile {} ignored, the browser does not support the DevTools protocol", profile);
+            }
+            networkProfile = profile;
+            return;
+        }
+        if (networkProfile == null) {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+        }
+        cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", profile.getBlockedUrls()));
+        networkProfile = profile;
+        LOG.info("Applied network profile {}", profile);
+    }
+
+    /**
+     * Quits the browser session, ignoring errors from an already dead browser,
+     * and deletes its temporary profile.
+     */
+    void quit() {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LOG.error("Failed to close WebDriver: {}", e.getMessage());
+        }
+        if (profileDir != null) {
+            ChromeProfiles.release(profileDir, seedTemplate);
+        }
+    }
+
+    /**
+     * Dismisses any alert left open by the previous scenario.
+     */
+    private void dismissAlert() {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // Nothing to dismiss
+        }
+    }
+
+    /**
+     * Closes every window except the first one and switches back to it.
+     */
+    private void closeExtraWindows() {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (String handle : handles.subList(1, handles.size())) {
+            driver.switchTo().window(handle).close();
+        }
+        driver.switchTo().window(handles.get(0));
+    }
+}
@@ -0,0 +1,270 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import abstracta.framework.telemetry.WaitEvent;
+import abstracta.utils.LoggerManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Checks the readiness of a set of elements inside the page instead of over the wire.
+ * A snapshot evaluates presence, visibility, enabled and in-viewport state of all locators in a single
+ * script call, so a polling wait costs one command per poll whatever the number of elements.
+ * The event-driven wait installs a {@code MutationObserver} so the browser itself signals, through a single
+ * asynchronous script call, the moment every locator resolves to a ready element.
+ */
+public class ReadinessProbe {
+    private static final LoggerManager LOG = LoggerManager.getLogger(ReadinessProbe.class);
+    /**
+     * Longest time a single asynchronous script call may block, kept below the default 30 s script timeout.
+     */
+    private static final Duration MAX_SCRIPT_WAIT = Duration.ofSeconds(20);
+    private static final double BACKOFF_FACTOR = 1.5;
+    private static final String DOM_FUNCTIONS = """
+            function find(locator) {
+              switch (locator.using) {
+                case 'id': return document.getElementById(locator.value);
+                case 'name': return document.querySelector('[name="' + CSS.escape(locator.value) + '"]');
+                case 'class name': return document.getElementsByClassName(locator.value)[0] || null;
+                case 'tag name': return document.getElementsByTagName(locator.value)[0] || null;
+                case 'xpath': return document.evaluate(locator.value, document, null,
+                    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                default: return document.querySelector(locator.value);
+              }
+            }
+            function isVisible(el) {
+              if (!el || !el.isConnected) { return false; }
+              for (var node = el; node && node.nodeType === 1; node = node.parentElement) {
+                var style = window.getComputedStyle(node);
+                if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }
+              }
+              var rect = el.getBoundingClientRect();
+              return rect.width > 0 && rect.height > 0;
+            }
+            function isReady(el, requirement) {
+              if (requirement === 'GONE') { return !isVisible(el); }
+              return isVisible(el) && (requirement !== 'CLICKABLE' || !el.disabled);
+            }
+            function state(el) {
+              var visible = isVisible(el), rect = visible ? el.getBoundingClientRect() : null;
+              return {
+                present: !!el,
+                visible: visible,
+                enabled: !!el && !el.disabled,
+                inViewport: visible && rect.bottom > 0 && rect.right > 0
+                    && rect.top < window.innerHeight && rect.left < window.innerWidth
+              };
+            }
+            function allReady(locators, requirement) {
+              for (var i = 0; i < locators.length; i++) {
+                if (!isReady(find(locators[i]), requirement)) { return false; }
+              }
+              return true;
+            }
+            """;
+    /**
+     * Resolves true as soon as all locators are ready, or with the final state when the time budget runs out.
+     * Style-only changes (stylesheets, transitions) do not mutate the DOM, so a cheap in-page timer backs up the observer.
+     */
+    private static final String AWAIT_SCRIPT = DOM_FUNCTIONS + """
+            var locators = arguments[0], requirement = arguments[1], budget = arguments[2];
+            var done = arguments[arguments.length - 1];
+            if (allReady(locators, requirement)) { done(true); return; }
+            var finished = false, observer, ticker, timer;
+            function finish(result) {
+              if (finished) { return; }
+              finished = true;
+              observer.disconnect();
+              clearInterval(ticker);
+              clearTimeout(timer);
+              done(result);
+            }
+            function check() { if (allReady(locators, requirement)) { finish(true); } }
+            observer = new MutationObserver(check);
+            observer.observe(document, { childList: true, subtree: true, attributes: true });
+            ticker = setInterval(check, 100);
+            timer = setTimeout(function () { finish(allReady(locators, requirement)); }, budget);
+            """;
+    /**
+     * Returns the state of every locator in one round trip.
+     */
+    private static final String SNAPSHOT_SCRIPT = DOM_FUNCTIONS + """
+            return arguments[0].map(function (locator) { return state(find(locator)); });
+            """;
+    private final WebDriver driver;
+
+    /**
+     * Readiness level required from every element.
+     */
+    public enum Requirement {
+        /**
+         * The element is rendered with a non-empty box.
+         */
+        VISIBLE,
+        /**
+         * The element is visible and not disabled.
+         */
+        CLICKABLE,
+        /**
+         * The element is absent from the DOM or not rendered.
+         */
+        GONE
+    }
+
+    /**
+     * Creates a probe for the given driver.
+     *
+     * @param driver the WebDriver whose current page is checked
+     */
+    public ReadinessProbe(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Evaluates the state of every locator in a single script call.
+     *
+     * @param locators the elements to check
+     * @return the state of each locator, in the given order
+     */
+    @SuppressWarnings("unchecked")
+    public ReadinessReport snapshot(List<By> locators) {
+        List<Map<String, Object>> states = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(SNAPSHOT_SCRIPT, toScriptLocators(locators));
+        List<ReadinessReport.ElementState> elements = new ArrayList<>(locators.size());
+        for (int i = 0; i < locators.size(); i++) {
+            Map<String, Object> state = states.get(i);
+            elements.add(new ReadinessReport.ElementState(locators.get(i),
+                    Boolean.TRUE.equals(state.get("present")),
+                    Boolean.TRUE.equals(state.get("visible")),
+                    Boolean.TRUE.equals(state.get("enabled")),
+                    Boolean.TRUE.equals(state.get("inViewport"))));
+        }
+        return new ReadinessReport(elements);
+    }
+
+    /**
+     * Polls {@link #snapshot(List)} with the given wait until every locator meets the requirement.
+     *
+     * @param locators    the elements to wait for
+     * @param requirement the readiness level required from every element
+     * @param wait        the wait that drives the polling
+     * @return the first report in which every element is ready
+     * @throws TimeoutException if the elements are not ready within the wait timeout
+     */
+    public ReadinessReport pollUntilReady(List<By> locators, Requirement requirement, AdaptiveWait wait) {
+        return wait.until(new Function<WebDriver, ReadinessReport>() {
+            @Override
+            public ReadinessReport apply(WebDriver ignored) {
+                ReadinessReport report = snapshot(locators);
+                return report.meets(requirement) ? report : null;
+            }
+
+            @Override
+            public String toString() {
+                return "elements " + locators + " to be " + requirement.name().toLowerCase();
+            }
+        });
+    }
+
+    /**
+     * Blocks until the browser reports that every locator resolves to an element meeting the requirement.
+     * Each asynchronous call costs one WebDriver command; a navigation that unloads the document
+     * while waiting starts a new call on the new document, after a pause that backs off from
+     * {@code webdriver.polling.initial} to {@code webdriver.polling.max} like {@link AdaptiveWait}.
+     *
+     * @param locators    the elements to wait for
+     * @param requirement the readiness level required from every element
+     * @param timeout     the maximum time to wait
+     * @throws TimeoutException if the elements are not ready within the timeout
+     */
+    public void awaitReady(List<By> locators, Requirement requirement, Duration timeout) {
+        List<Map<String, Object>> arguments = toScriptLocators(locators);
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int calls = 0;
+        long interval = DriverConfig.getInstance().getInitialPollingTime().toNanos();
+        long maxInterval = Math.max(interval, DriverConfig.getInstance().getMaxPollingTime().toNanos());
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                event.complete(locators + " " + requirement, "timeout", calls);
+                throw new TimeoutException("Elements " + locators + " not " + requirement.name().toLowerCase()
+                        + " after " + timeout.toMillis() + " ms (" + calls + " script call(s))");
+            }
+            long budget = Math.min(Duration.ofNanos(remaining).toMillis(), MAX_SCRIPT_WAIT.toMillis());
+            calls++;
+            try {
+                Object ready = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_SCRIPT, arguments,
+                        requirement.name(), budget);
+                if (Boolean.TRUE.equals(ready)) {
+                    long waited = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    int scriptCalls = calls;
+                    event.complete(locators + " " + requirement, "met", scriptCalls);
+                    LOG.info(() -> "Elements " + locators + " " + requirement.name().toLowerCase() + " after "
+                            + waited + " ms (" + scriptCalls + " script call(s))");
+                    return;
+                }
+            } catch (ScriptTimeoutException | JavascriptException e) {
+                LOG.debug(() -> "Readiness script interrupted, retrying: " + e.getMessage());
+                sleep(Math.min(interval, Math.max(0, deadline - System.nanoTime())));
+                interval = Math.min((long) (interval * BACKOFF_FACTOR), maxInterval);
+            }
+        }
+    }
+
+    /**
+     * Pauses before retrying an interrupted script call, restoring the interrupt flag if interrupted.
+     *
+     * @param nanos the time to sleep in nanoseconds
+     */
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Checks whether a locator can be evaluated by the in-page functions.
+     *
+     * @param locator the locator to check
+     * @return true if the locator is supported
+     */
+    public static boolean supports(By locator) {
+        return locator instanceof By.Remotable remotable
+                && !remotable.getRemoteParameters().using().contains("link text");
+    }
+
+    /**
+     * Converts locators into the strategy/value pairs understood by the in-page functions.
+     *
+     * @param locators the locators to convert
+     * @return the script arguments
+     * @throws IllegalArgumentException if a locator cannot be evaluated inside the page
+     */
+    static List<Map<String, Object>> toScriptLocators(List<By> locators) {
+        List<Map<String, Object>> converted = new ArrayList<>(locators.size());
+        for (By locator : locators) {
+            if (!supports(locator)) {
+                throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            converted.add(Map.of("using", parameters.using(), "value", String.valueOf(parameters.value())));
+        }
+        return converted;
+    }
+}
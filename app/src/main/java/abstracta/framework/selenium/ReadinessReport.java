@@ -0,0 +1,129 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Immutable result of a {@link ReadinessProbe} snapshot: the state of each checked locator.
+ */
+public final class ReadinessReport {
+    private final List<ElementState> elements;
+
+    /**
+     * Creates a report from the element states.
+     *
+     * @param elements the state of each locator
+     */
+    ReadinessReport(List<ElementState> elements) {
+        this.elements = List.copyOf(elements);
+    }
+
+    /**
+     * Returns the state of each locator, in the order they were checked.
+     *
+     * @return the element states
+     */
+    public List<ElementState> getElements() {
+        return elements;
+    }
+
+    /**
+     * Checks whether every element meets the requirement.
+     *
+     * @param requirement the readiness level to check
+     * @return true if all elements meet it
+     */
+    public boolean meets(ReadinessProbe.Requirement requirement) {
+        return elements.stream().allMatch(element -> element.meets(requirement));
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+
+    /**
+     * State of a single locator at the time of the snapshot.
+     */
+    public static final class ElementState {
+        private final By locator;
+        private final boolean present;
+        private final boolean visible;
+        private final boolean enabled;
+        private final boolean inViewport;
+
+        ElementState(By locator, boolean present, boolean visible, boolean enabled, boolean inViewport) {
+            this.locator = locator;
+            this.present = present;
+            this.visible = visible;
+            this.enabled = enabled;
+            this.inViewport = inViewport;
+        }
+
+        /**
+         * Returns the checked locator.
+         *
+         * @return the locator
+         */
+        public By getLocator() {
+            return locator;
+        }
+
+        /**
+         * Returns whether the locator matched an element.
+         *
+         * @return true if the element is in the DOM
+         */
+        public boolean isPresent() {
+            return present;
+        }
+
+        /**
+         * Returns whether the element is rendered with a non-empty box.
+         *
+         * @return true if the element is visible
+         */
+        public boolean isVisible() {
+            return visible;
+        }
+
+        /**
+         * Returns whether the element is not disabled.
+         *
+         * @return true if the element is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Returns whether the visible element intersects the viewport.
+         *
+         * @return true if the element is in the viewport
+         */
+        public boolean isInViewport() {
+            return inViewport;
+        }
+
+        /**
+         * Checks whether the element meets the requirement.
+         *
+         * @param requirement the readiness level to check
+         * @return true if the element meets it
+         */
+        public boolean meets(ReadinessProbe.Requirement requirement) {
+            return switch (requirement) {
+                case VISIBLE -> visible;
+                case CLICKABLE -> visible && enabled;
+                case GONE -> !visible;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return locator + "{present=" + present + ", visible=" + visible + ", enabled=" + enabled
+                    + ", inViewport=" + inViewport + "}";
+        }
+    }
+}
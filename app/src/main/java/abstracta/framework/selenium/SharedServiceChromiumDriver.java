@@ -0,0 +1,75 @@
+package abstracta.framework.selenium;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.AddHasCasting;
+import org.openqa.selenium.chromium.AddHasCdp;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Chromium session bound to an already running driver service.
+ * Unlike {@code ChromeDriver} and {@code EdgeDriver}, quitting this driver only ends the browser session
+ * and leaves the service process alive for the next session. CDP and casting commands remain available.
+ */
+public class SharedServiceChromiumDriver extends ChromiumDriver {
+
+    /**
+     * Creates a new session on the service listening at the given URL.
+     *
+     * @param serviceUrl    the URL of the running driver service
+     * @param options       the browser options
+     * @param capabilityKey the vendor specific options key
+     * @param cdp           provides the vendor CDP command and implementation
+     * @param casting       provides the vendor casting commands and implementation
+     */
+    private SharedServiceChromiumDriver(URL serviceUrl, ChromiumOptions<?> options, String capabilityKey,
+                                        AddHasCdp cdp, AddHasCasting casting) {
+        super(new HttpCommandExecutor(commands(cdp, casting), serviceUrl), options, capabilityKey);
+        this.casting = casting.getImplementation(getCapabilities(), getExecuteMethod());
+        this.cdp = cdp.getImplementation(getCapabilities(), getExecuteMethod());
+    }
+
+    /**
+     * Starts a Chrome session on a shared chromedriver.
+     *
+     * @param serviceUrl the URL of the running chromedriver
+     * @param options    the Chrome options
+     * @return the new session
+     */
+    static SharedServiceChromiumDriver chrome(URL serviceUrl, ChromeOptions options) {
+        return new SharedServiceChromiumDriver(serviceUrl, options, ChromeOptions.CAPABILITY,
+                new org.openqa.selenium.chrome.AddHasCdp(), new org.openqa.selenium.chrome.AddHasCasting());
+    }
+
+    /**
+     * Starts an Edge session on a shared msedgedriver.
+     *
+     * @param serviceUrl the URL of the running msedgedriver
+     * @param options    the Edge options
+     * @return the new session
+     */
+    static SharedServiceChromiumDriver edge(URL serviceUrl, EdgeOptions options) {
+        return new SharedServiceChromiumDriver(serviceUrl, options, EdgeOptions.CAPABILITY,
+                new org.openqa.selenium.edge.AddHasCdp(), new org.openqa.selenium.edge.AddHasCasting());
+    }
+
+    /**
+     * Merges the vendor specific commands the executor must know about.
+     *
+     * @param cdp     provides the CDP command
+     * @param casting provides the casting commands
+     * @return the additional commands
+     */
+    private static Map<String, CommandInfo> commands(AddHasCdp cdp, AddHasCasting casting) {
+        Map<String, CommandInfo> commands = new HashMap<>(cdp.getAdditionalCommands());
+        commands.putAll(casting.getAdditionalCommands());
+        return commands;
+    }
+}
@@ -0,0 +1,39 @@
+package abstracta.framework.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering one WebDriver command issued through a decorated driver.
+ */
+@Name("abstracta.Command")
+@Label("WebDriver Command")
+@Category({"Abstracta", "WebDriver"})
+@Description("WebDriver command issued by a page object")
+final class CommandEvent extends Event {
+    @Label("Command")
+    private String command;
+    @Label("Page")
+    private String page;
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Ends the event and commits it when it is being recorded; the calling page is only resolved in that case.
+     *
+     * @param commandName   the command name
+     * @param commandFailed whether the command threw
+     */
+    void complete(String commandName, boolean commandFailed) {
+        end();
+        if (shouldCommit()) {
+            command = commandName;
+            page = CommandListener.callingPage();
+            failed = commandFailed;
+            commit();
+        }
+    }
+}
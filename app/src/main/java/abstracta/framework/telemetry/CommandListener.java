@@ -0,0 +1,132 @@
+package abstracta.framework.telemetry;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * Times every call made through a decorated WebDriver and the objects it returns
+ * (elements, navigation, options, target locator, alerts) and hands the measurements to {@link CommandTelemetry}
+ * and {@link TraceRecorder}, and emits a {@link CommandEvent} for Flight Recorder.
+ */
+final class CommandListener implements WebDriverListener {
+    private static final String PAGE_PACKAGE = "abstracta.ui.";
+    private static final String BASE_PAGE = "abstracta.ui.BasePage";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    /**
+     * Calls in progress on each thread; a stack because a decorated call may trigger another.
+     */
+    private final ThreadLocal<Deque<Call>> calls = ThreadLocal.withInitial(ArrayDeque::new);
+    private final CommandTelemetry telemetry;
+    private final TraceRecorder trace;
+
+    /**
+     * Creates a listener that reports to the given telemetry and trace.
+     *
+     * @param telemetry the registry receiving the latencies
+     * @param trace     the recorder receiving a span per command
+     */
+    CommandListener(CommandTelemetry telemetry, TraceRecorder trace) {
+        this.telemetry = telemetry;
+        this.trace = trace;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        calls.get().push(new Call(System.nanoTime(), event));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, true);
+    }
+
+    /**
+     * Records the duration of the call that just ended.
+     *
+     * @param target the decorated object the call was made on
+     * @param method the called method
+     * @param failed whether the call threw
+     */
+    private void finish(Object target, Method method, boolean failed) {
+        Call call = calls.get().poll();
+        if (call == null) {
+            return;
+        }
+        long end = System.nanoTime();
+        String command = commandName(target, method);
+        if (telemetry.isEnabled()) {
+            telemetry.record(command, callingPage(), end - call.start);
+        }
+        trace.complete("command", command, failed ? "failed" : null, call.start, end);
+        call.event.complete(command, failed);
+    }
+
+    /**
+     * Names a command after the object it was called on, for example {@code findElement},
+     * {@code element.click} or {@code navigate.to}.
+     *
+     * @param target the decorated object the call was made on
+     * @param method the called method
+     * @return the command name
+     */
+    private static String commandName(Object target, Method method) {
+        if (target instanceof WebDriver) {
+            return method.getName();
+        }
+        if (target instanceof WebElement) {
+            return "element." + method.getName();
+        }
+        if (target instanceof WebDriver.Navigation) {
+            return "navigate." + method.getName();
+        }
+        if (target instanceof WebDriver.TargetLocator) {
+            return "switchTo." + method.getName();
+        }
+        if (target instanceof Alert) {
+            return "alert." + method.getName();
+        }
+        return "manage." + method.getName();
+    }
+
+    /**
+     * Finds the page object (or component) on the current stack that issued the command.
+     * Frames of {@code BasePage} itself are skipped so inherited helpers are charged to the concrete page.
+     *
+     * @return the simple name of the calling page class, or {@code -} when the call did not come from a page
+     */
+    static String callingPage() {
+        Optional<String> page = STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(name -> name.startsWith(PAGE_PACKAGE) && !name.equals(BASE_PAGE))
+                .findFirst());
+        return page.map(name -> name.substring(name.lastIndexOf('.') + 1)).orElse("-");
+    }
+
+    /**
+     * A call in progress: its start time and its Flight Recorder event.
+     */
+    private static final class Call {
+        private final long start;
+        private final CommandEvent event;
+
+        private Call(long start, CommandEvent event) {
+            this.start = start;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package abstracta.framework.telemetry;
+
+import abstracta.framework.selenium.DriverConfig;
+import abstracta.utils.LoggerManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Singleton registry of WebDriver command latencies.
+ * Drivers decorated by {@link #decorate(WebDriver)} report the wall time of every command, which is kept in a
+ * {@link LatencyHistogram} per command, calling page object and scenario. At the end of the run the histograms
+ * are written as JSON together with a plain-text summary table, aggregated across scenarios.
+ * The same decoration feeds the commands into the {@link TraceRecorder} when tracing is enabled.
+ */
+public class CommandTelemetry {
+    private static final LoggerManager LOG = LoggerManager.getLogger(CommandTelemetry.class);
+    private static final String NO_SCENARIO = "-";
+    private final Map<SeriesKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> scenario = ThreadLocal.withInitial(() -> NO_SCENARIO);
+    private final CommandListener listener = new CommandListener(this, TraceRecorder.getInstance());
+    private final boolean enabled;
+    private final Path reportDir;
+
+    /**
+     * Protected constructor to initialize the CommandTelemetry instance.
+     */
+    protected CommandTelemetry() {
+        enabled = DriverConfig.getInstance().isTelemetryEnabled();
+        reportDir = Paths.get(DriverConfig.getInstance().getTelemetryDir());
+    }
+
+    /**
+     * Returns the singleton instance of CommandTelemetry.
+     *
+     * @return the singleton instance of CommandTelemetry
+     */
+    public static CommandTelemetry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Initialization-on-demand holder, so concurrent scenario threads share one registry.
+     */
+    private static final class Holder {
+        private static final CommandTelemetry INSTANCE = new CommandTelemetry();
+    }
+
+    /**
+     * Returns whether command latencies are recorded.
+     *
+     * @return true if command telemetry is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Wraps a driver so every command issued through it, or through the elements it returns, is timed.
+     *
+     * @param driver the driver to instrument
+     * @return the decorated driver
+     */
+    public WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(listener).decorate(driver);
+    }
+
+    /**
+     * Attributes the commands issued by the current thread to a scenario.
+     *
+     * @param scenarioName the name of the scenario now running on this thread
+     */
+    public void startScenario(String scenarioName) {
+        scenario.set(scenarioName);
+    }
+
+    /**
+     * Stops attributing the commands of the current thread to its scenario.
+     */
+    public void endScenario() {
+        scenario.remove();
+    }
+
+    /**
+     * Records the duration of one command.
+     *
+     * @param command the command name
+     * @param page    the page object that issued it
+     * @param nanos   the wall time in nanoseconds
+     */
+    void record(String command, String page, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        histograms.computeIfAbsent(new SeriesKey(command, page, scenario.get()), key -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Writes {@code commands.json} with one entry per command, page and scenario,
+     * and {@code commands-summary.txt} with the same data aggregated across scenarios.
+     * Does nothing when no command was recorded.
+     */
+    public void writeReport() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> series = new ArrayList<>();
+        Map<SeriesKey, LatencyHistogram> totals = new ConcurrentHashMap<>();
+        histograms.forEach((key, histogram) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("command", key.command);
+            entry.put("page", key.page);
+            entry.put("scenario", key.scenario);
+            entry.putAll(histogram.toMap());
+            series.add(entry);
+            totals.computeIfAbsent(new SeriesKey(key.command, key.page, NO_SCENARIO), k -> new LatencyHistogram())
+                    .add(histogram);
+        });
+        series.sort(Comparator.comparing((Map<String, Object> entry) -> (Double) entry.get("totalMs")).reversed());
+        String summary = summaryTable(totals);
+        try {
+            Files.createDirectories(reportDir);
+            Files.writeString(reportDir.resolve("commands.json"), new Json().toJson(series), StandardCharsets.UTF_8);
+            Files.writeString(reportDir.resolve("commands-summary.txt"), summary, StandardCharsets.UTF_8);
+            LOG.info("WebDriver command latencies written to {}" + System.lineSeparator() + "{}", reportDir.toAbsolutePath(),
+                    summary);
+        } catch (IOException e) {
+            LOG.error("Unable to write WebDriver command latencies: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Formats the aggregated histograms as a table sorted by total time, most expensive first.
+     *
+     * @param totals the histograms aggregated across scenarios
+     * @return the table
+     */
+    private static String summaryTable(Map<SeriesKey, LatencyHistogram> totals) {
+        String format = "%-28s %-22s %8s %12s %10s %10s %10s %10s%n";
+        StringBuilder table = new StringBuilder(String.format(format, "COMMAND", "PAGE", "COUNT", "TOTAL ms",
+                "MEAN ms", "P50 ms", "P90 ms", "MAX ms"));
+        totals.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<SeriesKey, LatencyHistogram> entry) -> entry.getValue().getTotalNanos()).reversed())
+                .forEach(entry -> {
+                    LatencyHistogram histogram = entry.getValue();
+                    table.append(String.format(format, entry.getKey().command, entry.getKey().page,
+                            histogram.getCount(), millis(histogram.getTotalNanos()), millis(histogram.getMeanNanos()),
+                            millis(histogram.getPercentileNanos(50)), millis(histogram.getPercentileNanos(90)),
+                            millis(histogram.getMaxNanos())));
+                });
+        return table.toString();
+    }
+
+    /**
+     * Formats nanoseconds as milliseconds with one decimal.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the formatted duration
+     */
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Identifies one histogram: a command issued by a page object during a scenario.
+     */
+    private static final class SeriesKey {
+        private final String command;
+        private final String page;
+        private final String scenario;
+
+        private SeriesKey(String command, String page, String scenario) {
+            this.command = command;
+            this.page = page;
+            this.scenario = scenario;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SeriesKey key && command.equals(key.command) && page.equals(key.page)
+                    && scenario.equals(key.scenario);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(command, page, scenario);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package abstracta.framework.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the execution of one Cucumber scenario.
+ */
+@Name("abstracta.Scenario")
+@Label("Scenario")
+@Category({"Abstracta", "Cucumber"})
+@Description("Execution of a Cucumber scenario")
+public final class ScenarioEvent extends Event {
+    @Label("Scenario")
+    private String scenario;
+    @Label("Status")
+    private String status;
+
+    /**
+     * Ends the event and commits it when it is being recorded.
+     *
+     * @param scenarioName   the scenario name
+     * @param scenarioStatus the result status of the scenario
+     */
+    public void complete(String scenarioName, String scenarioStatus) {
+        end();
+        if (shouldCommit()) {
+            scenario = scenarioName;
+            status = scenarioStatus;
+            commit();
+        }
+    }
+}
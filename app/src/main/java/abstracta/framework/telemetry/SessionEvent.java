@@ -0,0 +1,50 @@
+package abstracta.framework.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event covering the time a thread holds a browser session,
+ * from the moment it is borrowed from the pool until it is released or quit.
+ */
+@Name("abstracta.DriverSession")
+@Label("Driver Session")
+@Category({"Abstracta", "WebDriver"})
+@Description("Time a thread holds a browser session")
+public final class SessionEvent extends Event {
+    @Label("Browser")
+    private String browser;
+    @Label("Acquire Time")
+    @Timespan
+    private long acquireNanos;
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Records how long acquiring the session took, measured by the caller once the session is ready.
+     *
+     * @param browserName the browser of the session
+     * @param nanos       the time spent acquiring the session, in nanoseconds
+     */
+    public void acquired(String browserName, long nanos) {
+        browser = browserName;
+        acquireNanos = nanos;
+    }
+
+    /**
+     * Ends the event and commits it when it is being recorded.
+     *
+     * @param sessionOutcome {@code released} when the session went back to the pool, {@code quit} otherwise
+     */
+    public void complete(String sessionOutcome) {
+        end();
+        if (shouldCommit()) {
+            outcome = sessionOutcome;
+            commit();
+        }
+    }
+}
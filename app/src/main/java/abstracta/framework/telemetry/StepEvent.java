@@ -0,0 +1,40 @@
+package abstracta.framework.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the execution of one Cucumber step or hook.
+ */
+@Name("abstracta.Step")
+@Label("Step")
+@Category({"Abstracta", "Cucumber"})
+@Description("Execution of a Cucumber step or hook")
+public final class StepEvent extends Event {
+    @Label("Scenario")
+    private String scenario;
+    @Label("Step")
+    private String step;
+    @Label("Status")
+    private String status;
+
+    /**
+     * Ends the event and commits it when it is being recorded.
+     *
+     * @param scenarioName the scenario the step belongs to
+     * @param stepName     the step text or hook name
+     * @param stepStatus   the result status of the step
+     */
+    public void complete(String scenarioName, String stepName, String stepStatus) {
+        end();
+        if (shouldCommit()) {
+            scenario = scenarioName;
+            step = stepName;
+            status = stepStatus;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package abstracta.framework.telemetry;
+
+import abstracta.framework.selenium.DriverConfig;
+import abstracta.utils.LoggerManager;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Singleton recorder of nested timing spans in the Chrome trace-event format.
+ * Scenarios, steps, page-object interactions and WebDriver commands each become a complete ({@code "X"}) event
+ * on the thread that ran them, so the trace written at the end of the run opens as a timeline in
+ * {@code chrome://tracing} or Perfetto with every command nested under the page method and step that issued it.
+ * Recording is enabled by {@code webdriver.trace}; when disabled, spans cost a single field check.
+ */
+public class TraceRecorder {
+    private static final LoggerManager LOG = LoggerManager.getLogger(TraceRecorder.class);
+    private static final Span NO_SPAN = new Span(null, null, null, null, 0);
+    private final boolean enabled;
+    private final Path reportDir;
+    private final long origin = System.nanoTime();
+    private final long pid = ProcessHandle.current().pid();
+    private final Queue<Map<String, Object>> events = new ConcurrentLinkedQueue<>();
+    private final Set<Long> namedThreads = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Protected constructor to initialize the TraceRecorder instance.
+     */
+    protected TraceRecorder() {
+        enabled = DriverConfig.getInstance().isTraceEnabled();
+        reportDir = Paths.get(DriverConfig.getInstance().getTelemetryDir());
+    }
+
+    /**
+     * Returns the singleton instance of TraceRecorder.
+     *
+     * @return the singleton instance of TraceRecorder
+     */
+    public static TraceRecorder getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Initialization-on-demand holder, so concurrent scenario threads share one recorder.
+     */
+    private static final class Holder {
+        private static final TraceRecorder INSTANCE = new TraceRecorder();
+    }
+
+    /**
+     * Returns whether spans are recorded.
+     *
+     * @return true if tracing is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a span on the current thread; closing it records the event.
+     *
+     * @param category the span category, for example {@code step} or {@code page}
+     * @param name     the span name
+     * @return the open span, to be closed with try-with-resources
+     */
+    public Span begin(String category, String name) {
+        return begin(category, name, null);
+    }
+
+    /**
+     * Opens a span on the current thread with a detail shown in the event arguments.
+     *
+     * @param category the span category, for example {@code step} or {@code page}
+     * @param name     the span name
+     * @param detail   extra information about the span, may be null
+     * @return the open span, to be closed with try-with-resources
+     */
+    public Span begin(String category, String name, String detail) {
+        return enabled ? new Span(this, category, name, detail, System.nanoTime()) : NO_SPAN;
+    }
+
+    /**
+     * Records a span whose start and end were measured by the caller.
+     *
+     * @param category   the span category
+     * @param name       the span name
+     * @param detail     extra information about the span, may be null
+     * @param startNanos the start, from {@link System#nanoTime()}
+     * @param endNanos   the end, from {@link System#nanoTime()}
+     */
+    public void complete(String category, String name, String detail, long startNanos, long endNanos) {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        long tid = thread.getId();
+        if (namedThreads.add(tid)) {
+            events.add(Map.of("ph", "M", "name", "thread_name", "pid", pid, "tid", tid,
+                    "args", Map.of("name", thread.getName())));
+        }
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("ph", "X");
+        event.put("cat", category);
+        event.put("name", name);
+        event.put("pid", pid);
+        event.put("tid", tid);
+        event.put("ts", (startNanos - origin) / 1_000.0);
+        event.put("dur", (endNanos - startNanos) / 1_000.0);
+        if (detail != null) {
+            event.put("args", Map.of("detail", detail));
+        }
+        events.add(event);
+    }
+
+    /**
+     * Writes the recorded spans to {@code trace-<timestamp>.json} in the telemetry directory,
+     * {@code reports/telemetry} by default.
+     * Does nothing when no span was recorded.
+     */
+    public void writeTrace() {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> traceEvents = new ArrayList<>(events);
+        Path file = reportDir.resolve("trace-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern(
+                "yyyyMMdd-HHmmss")) + ".json");
+        try {
+            Files.createDirectories(reportDir);
+            Files.writeString(file, new Json().toJson(Map.of("traceEvents", traceEvents, "displayTimeUnit", "ms")),
+                    StandardCharsets.UTF_8);
+            LOG.info("Trace with {} event(s) written to {}", traceEvents.size(), file.toAbsolutePath());
+        } catch (IOException e) {
+            LOG.error("Unable to write trace: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A span opened on the current thread, recorded when closed.
+     */
+    public static final class Span implements AutoCloseable {
+        private final TraceRecorder recorder;
+        private final String category;
+        private final String name;
+        private final long start;
+        private String detail;
+
+        private Span(TraceRecorder recorder, String category, String name, String detail, long start) {
+            this.recorder = recorder;
+            this.category = category;
+            this.name = name;
+            this.detail = detail;
+            this.start = start;
+        }
+
+        /**
+         * Replaces the detail recorded with the span, for information only known once the span is over.
+         *
+         * @param spanDetail the new detail
+         */
+        public void setDetail(String spanDetail) {
+            if (recorder != null) {
+                detail = spanDetail;
+            }
+        }
+
+        /**
+         * Records the span with the current time as its end.
+         */
+        @Override
+        public void close() {
+            if (recorder != null) {
+                recorder.complete(category, name, detail, start, System.nanoTime());
+            }
+        }
+    }
+}
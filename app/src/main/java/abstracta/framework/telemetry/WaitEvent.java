@@ -0,0 +1,40 @@
+package abstracta.framework.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering one explicit wait, with its condition and outcome.
+ */
+@Name("abstracta.Wait")
+@Label("Wait")
+@Category({"Abstracta", "WebDriver"})
+@Description("Explicit wait for a condition")
+public final class WaitEvent extends Event {
+    @Label("Condition")
+    private String condition;
+    @Label("Outcome")
+    private String outcome;
+    @Label("Evaluations")
+    private int evaluations;
+
+    /**
+     * Ends the event and commits it when it is being recorded.
+     *
+     * @param waitCondition   the condition waited for
+     * @param waitOutcome     {@code met} or {@code timeout}
+     * @param evaluationCount how many times the condition was evaluated, or script calls made
+     */
+    public void complete(Object waitCondition, String waitOutcome, int evaluationCount) {
+        end();
+        if (shouldCommit()) {
+            condition = String.valueOf(waitCondition);
+            outcome = waitOutcome;
+            evaluations = evaluationCount;
+            commit();
+        }
+    }
+}
@@ -1,20 +1,51 @@
 package abstracta.ui;
 
+import abstracta.framework.selenium.AdaptiveWait;
 import abstracta.framework.selenium.DriverManager;
+import abstracta.framework.selenium.ReadinessProbe;
+import abstracta.framework.selenium.ReadinessReport;
+import abstracta.framework.telemetry.TraceRecorder;
 import abstracta.utils.LoggerManager;
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.Wait;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class for all page objects.
  * Provides common methods and utilities for interacting with web elements.
  */
 public abstract class BasePage {
-    protected static final LoggerManager LOG = LoggerManager.getInstance();
+    /**
+     * Logger named after the concrete page class, so every page object logs under its own name.
+     */
+    protected final LoggerManager log = LoggerManager.getLogger(getClass());
+    private static final TraceRecorder TRACE = TraceRecorder.getInstance();
+    private static final Function<WebDriver, Boolean> DOCUMENT_COMPLETE = webDriver ->
+            "complete".equals(((JavascriptExecutor) webDriver).executeScript("return document.readyState"));
     protected final WebDriver driver;
-    protected final Wait<WebDriver> wait;
+    protected final AdaptiveWait wait;
+    /**
+     * Descriptions of the PageFactory elements, keyed by proxy identity so building a log line
+     * never calls {@code hashCode()} or {@code toString()} on a proxy, both of which locate the element first.
+     */
+    private final Map<WebElement, String> elementDescriptions = new IdentityHashMap<>();
+    private final Map<WebElement, By> elementLocators = new IdentityHashMap<>();
+    private final boolean eventDrivenWaits;
 
     /**
      * Constructor to initialize the WebDriver and Wait instances.
@@ -22,17 +53,259 @@ public abstract class BasePage {
     public BasePage() {
         DriverManager driverManager = DriverManager.getInstance();
         this.driver = driverManager.getWebDriver();
-        this.wait = driverManager.getFluentWait();
+        this.wait = driverManager.getWait();
+        this.eventDrivenWaits = "event".equalsIgnoreCase(DriverManager.DRIVER_CONFIG.getWaitMode());
         PageFactory.initElements(driver, this);
-        LOG.info("Initialized BasePage with WebDriver and Wait instances");
+        log.info("Initialized BasePage with WebDriver and Wait instances");
+    }
+
+    /**
+     * Waits until the page object is ready to be used, as told by {@link #readiness()}.
+     * Subclasses may override it to wait for their elements directly.
+     *
+     * @throws WebDriverException if the page object is not ready within the timeout
+     */
+    public void waitUntilPageObjectIsLoaded() throws WebDriverException {
+        waitFor(readiness(), wait.getTimeout());
+    }
+
+    /**
+     * Returns the condition under which this page is ready. The default waits for {@code document.readyState}
+     * to be {@code complete}, the window load event the {@code normal} page-load strategy blocks on.
+     * With the {@code eager} or {@code none} strategy ({@code webdriver.page.load.strategy}), navigation returns
+     * before the subresources are loaded; pages override this so steps continue as soon as the elements they
+     * need are usable, for example with {@link #allVisible(By...)}.
+     *
+     * @return the readiness condition, met when it returns neither null nor false
+     */
+    protected Function<? super WebDriver, ?> readiness() {
+        return DOCUMENT_COMPLETE;
+    }
+
+    /**
+     * Returns a readiness condition met once every locator matches a visible element,
+     * checked with one script call per poll.
+     *
+     * @param locators locators that can be evaluated inside the page
+     * @return the readiness condition
+     * @throws IllegalArgumentException if a locator cannot be evaluated inside the page
+     */
+    protected Function<WebDriver, Boolean> allVisible(By... locators) {
+        List<By> required = List.of(locators);
+        return webDriver -> checkReadiness(required).meets(ReadinessProbe.Requirement.VISIBLE);
+    }
+
+    /**
+     * Waits for a condition with a timeout specific to this call instead of the configured default.
+     *
+     * @param condition the condition to wait for
+     * @param timeout   the maximum time to wait
+     * @param <V>       the type of the condition result
+     * @return the value returned by the condition
+     * @throws TimeoutException if the condition is not met within the timeout
+     */
+    protected <V> V waitFor(Function<? super WebDriver, V> condition, Duration timeout) {
+        try (TraceRecorder.Span span = trace("waitFor", String.valueOf(condition))) {
+            return wait.withTimeout(timeout).until(condition);
+        } catch (TimeoutException e) {
+            throw logged(e);
+        }
+    }
+
+    /**
+     * Logs a wait that timed out as an error, for the waits whose timeout fails the calling step.
+     *
+     * @param e the timeout
+     * @return the same timeout, to be rethrown
+     */
+    private TimeoutException logged(TimeoutException e) {
+        log.error(() -> "Wait timed out: " + e.getRawMessage());
+        return e;
+    }
+
+    /**
+     * Waits until all the given PageFactory elements are visible.
+     *
+     * @param elements the elements to wait for
+     * @throws TimeoutException if an element is not visible within the timeout
+     */
+    protected void waitUntilVisible(WebElement... elements) {
+        waitUntilReady(ReadinessProbe.Requirement.VISIBLE, elements);
+    }
+
+    /**
+     * Waits until all the given PageFactory elements are visible and enabled.
+     *
+     * @param elements the elements to wait for
+     * @throws TimeoutException if an element is not clickable within the timeout
+     */
+    protected void waitUntilClickable(WebElement... elements) {
+        waitUntilReady(ReadinessProbe.Requirement.CLICKABLE, elements);
+    }
+
+    /**
+     * Waits until none of the elements is displayed any more, returning as soon as the page confirms it.
+     * Locators that can be evaluated in the page are checked with one script call per poll (or one
+     * MutationObserver call in event mode); the others are polled with the implicit wait suspended.
+     *
+     * @param locators the elements expected to disappear
+     * @throws TimeoutException if an element is still displayed after the timeout
+     */
+    protected void waitUntilGone(By... locators) {
+        try {
+            awaitGone(locators);
+        } catch (TimeoutException e) {
+            throw logged(e);
+        }
     }
 
     /**
-     * Abstract method to be implemented by subclasses to wait until the page object is fully loaded.
+     * Waits until none of the elements is displayed any more, leaving a timeout to the caller to report.
      *
-     * @throws WebDriverException if the page object is not loaded
+     * @param locators the elements expected to disappear
+     * @throws TimeoutException if an element is still displayed after the timeout
      */
-    public abstract void waitUntilPageObjectIsLoaded() throws WebDriverException;
+    private void awaitGone(By... locators) {
+        List<By> gone = List.of(locators);
+        try (TraceRecorder.Span span = trace("waitUntilGone", gone.toString())) {
+            if (gone.stream().allMatch(ReadinessProbe::supports)) {
+                awaitRequirement(gone, ReadinessProbe.Requirement.GONE);
+                return;
+            }
+            withoutImplicitWait(() -> {
+                for (By locator : gone) {
+                    wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Checks whether the elements are gone or disappear within the wait timeout, without failing.
+     *
+     * @param locators the elements expected to disappear
+     * @return true once none of the elements is displayed, false if one is still displayed after the timeout
+     */
+    protected boolean isEventuallyGone(By... locators) {
+        try {
+            awaitGone(locators);
+            return true;
+        } catch (TimeoutException e) {
+            log.info(() -> "Elements " + List.of(locators) + " still displayed: " + e.getRawMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Checks immediately, without waiting, whether no element matches the locator.
+     *
+     * @param locator the locator to check
+     * @return true if the locator matches nothing in the DOM
+     */
+    protected boolean isAbsent(By locator) {
+        if (ReadinessProbe.supports(locator)) {
+            return !checkReadiness(List.of(locator)).getElements().get(0).isPresent();
+        }
+        return withoutImplicitWait(() -> driver.findElements(locator).isEmpty());
+    }
+
+    /**
+     * Runs an action with the implicit wait set to zero, so a lookup that finds nothing returns at once
+     * instead of blocking for the implicit timeout. Nothing is changed when the implicit wait is already zero.
+     *
+     * @param action the lookup to run
+     * @param <T>    the type of the result
+     * @return the result of the action
+     */
+    private <T> T withoutImplicitWait(Supplier<T> action) {
+        Duration implicitWait = DriverManager.DRIVER_CONFIG.getImplicitWaitTime();
+        if (implicitWait.isZero()) {
+            return action.get();
+        }
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return action.get();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
+    /**
+     * Checks presence, visibility, enabled and in-viewport state of a set of locators in a single script call.
+     *
+     * @param locators the locators to check
+     * @return the state of each locator, in iteration order
+     * @throws IllegalArgumentException if a locator cannot be evaluated inside the page
+     */
+    protected ReadinessReport checkReadiness(Collection<By> locators) {
+        return new ReadinessProbe(driver).snapshot(List.copyOf(locators));
+    }
+
+    /**
+     * Waits until the elements meet the requirement. In event mode ({@code webdriver.wait.mode=event})
+     * the browser signals readiness through a MutationObserver in one script call; in polling mode every
+     * poll checks all elements with one batched script call. Elements without a locator that can be
+     * evaluated in the page are polled one by one over the wire.
+     *
+     * @param requirement the readiness level required from every element
+     * @param elements    the elements to wait for
+     */
+    private void waitUntilReady(ReadinessProbe.Requirement requirement, WebElement... elements) {
+        List<By> locators = locatorsOf(elements);
+        try (TraceRecorder.Span span = trace("waitUntil" + (requirement == ReadinessProbe.Requirement.CLICKABLE
+                ? "Clickable" : "Visible"), locators == null ? null : locators.toString())) {
+            if (locators != null) {
+                awaitRequirement(locators, requirement);
+                return;
+            }
+            for (WebElement element : elements) {
+                wait.until(requirement == ReadinessProbe.Requirement.CLICKABLE
+                        ? ExpectedConditions.elementToBeClickable(element)
+                        : ExpectedConditions.visibilityOf(element));
+            }
+        } catch (TimeoutException e) {
+            throw logged(e);
+        }
+    }
+
+    /**
+     * Waits until every locator meets the requirement, through the MutationObserver in event mode
+     * and through one batched script call per poll otherwise.
+     *
+     * @param locators    locators that can be evaluated inside the page
+     * @param requirement the readiness level required from every element
+     */
+    private void awaitRequirement(List<By> locators, ReadinessProbe.Requirement requirement) {
+        ReadinessProbe probe = new ReadinessProbe(driver);
+        if (eventDrivenWaits) {
+            probe.awaitReady(locators, requirement, wait.getTimeout());
+        } else {
+            probe.pollUntilReady(locators, requirement, wait);
+        }
+    }
+
+    /**
+     * Resolves the PageFactory locators of the given elements.
+     *
+     * @param elements the elements to resolve
+     * @return the locators, or null if any element has no locator that can be evaluated inside the page
+     */
+    private List<By> locatorsOf(WebElement... elements) {
+        List<By> locators = new ArrayList<>(elements.length);
+        for (WebElement element : elements) {
+            By locator = elementLocators.get(element);
+            if (locator == null) {
+                registerPageElements();
+                locator = elementLocators.get(element);
+            }
+            if (!ReadinessProbe.supports(locator)) {
+                return null;
+            }
+            locators.add(locator);
+        }
+        return locators;
+    }
 
     /**
      * Clicks on the specified web element.
@@ -40,13 +313,13 @@ public abstract class BasePage {
      * @param element the web element to click
      */
     protected void click(WebElement element) {
-        try {
-            LOG.info("Attempting to click element: " + element);
+        try (TraceRecorder.Span span = trace("click", element)) {
+            log.info(() -> "Attempting to click element: " + describe(element));
             wait.until(ExpectedConditions.elementToBeClickable(element));
             element.click();
-            LOG.info("Clicked element: " + element);
+            log.info(() -> "Clicked element: " + describe(element));
         } catch (Exception e) {
-            LOG.error("Failed to click element: " + e.getMessage());
+            log.error(() -> "Failed to click element " + describe(element) + ": " + e.getMessage());
             throw e;
         }
     }
@@ -58,14 +331,14 @@ public abstract class BasePage {
      * @param text    the text to type
      */
     protected void type(WebElement element, String text) {
-        try {
-            LOG.info("Attempting to type text into element: " + element);
+        try (TraceRecorder.Span span = trace("type", element)) {
+            log.info(() -> "Attempting to type text into element: " + describe(element));
             wait.until(ExpectedConditions.visibilityOf(element));
             element.clear();
             element.sendKeys(text);
-            LOG.info("Typed text into element: " + element);
+            log.info(() -> "Typed text into element: " + describe(element));
         } catch (Exception e) {
-            LOG.error("Failed to type text: " + e.getMessage());
+            log.error(() -> "Failed to type text into " + describe(element) + ": " + e.getMessage());
             throw e;
         }
     }
@@ -77,14 +350,14 @@ public abstract class BasePage {
      * @return true if the element is displayed, false otherwise
      */
     protected boolean isElementDisplayed(WebElement element) {
-        try {
-            LOG.info("Checking if element is displayed: " + element);
+        try (TraceRecorder.Span span = trace("isElementDisplayed", element)) {
+            log.info(() -> "Checking if element is displayed: " + describe(element));
             wait.until(ExpectedConditions.visibilityOf(element));
             boolean isDisplayed = element.isDisplayed();
-            LOG.info("Element displayed: " + isDisplayed);
+            log.info(() -> "Element " + describe(element) + " displayed: " + isDisplayed);
             return isDisplayed;
         } catch (Exception e) {
-            LOG.error("Element is not displayed: " + e.getMessage());
+            log.error(() -> "Element " + describe(element) + " is not displayed: " + e.getMessage());
             return false;
         }
     }
@@ -96,15 +369,98 @@ public abstract class BasePage {
      * @return the text of the element
      */
     protected String getText(WebElement element) {
-        try {
-            LOG.info("Getting text from element: " + element);
+        try (TraceRecorder.Span span = trace("getText", element)) {
+            log.info(() -> "Getting text from element: " + describe(element));
             wait.until(ExpectedConditions.visibilityOf(element));
             String text = element.getText();
-            LOG.info("Got text from element: " + text);
+            log.info(() -> "Got text from element " + describe(element) + ": " + text);
             return text;
         } catch (Exception e) {
-            LOG.error("Failed to get text: " + e.getMessage());
+            log.error(() -> "Failed to get text from " + describe(element) + ": " + e.getMessage());
             throw e;
         }
     }
+
+    /**
+     * Opens a trace span for an interaction with an element of this page.
+     *
+     * @param method  the interaction name
+     * @param element the element interacted with
+     * @return the open span
+     */
+    private TraceRecorder.Span trace(String method, WebElement element) {
+        return trace(method, TRACE.isEnabled() ? describe(element) : null);
+    }
+
+    /**
+     * Opens a trace span named after the concrete page class and the method, for example {@code HomePage.click}.
+     *
+     * @param method the interaction name
+     * @param detail what the interaction is about, may be null
+     * @return the open span
+     */
+    private TraceRecorder.Span trace(String method, String detail) {
+        return TRACE.begin("page", getClass().getSimpleName() + "." + method, detail);
+    }
+
+    /**
+     * Returns a log-friendly description of an element without contacting the browser.
+     * PageFactory fields are described by page class, field name and locator,
+     * for example {@code HomePage.content [By.cssSelector: #content .row]}.
+     *
+     * @param element the element to describe
+     * @return the description of the element
+     */
+    protected String describe(WebElement element) {
+        if (element == null) {
+            return "null";
+        }
+        String description = elementDescriptions.get(element);
+        if (description == null) {
+            registerPageElements();
+            description = elementDescriptions.get(element);
+        }
+        if (description != null) {
+            return description;
+        }
+        // Calling toString() on an unregistered PageFactory proxy would locate the element first
+        return Proxy.isProxyClass(element.getClass()) ? getClass().getSimpleName() + " element" : element.toString();
+    }
+
+    /**
+     * Records the description and locator of every annotated WebElement field of this page object.
+     * Runs again on a cache miss because subclasses may re-initialize their fields after this constructor.
+     */
+    private void registerPageElements() {
+        for (Class<?> type = getClass(); type != null && type != BasePage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!WebElement.class.equals(field.getType()) || !isLocatorAnnotated(field)) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    Object value = field.get(this);
+                    if (value instanceof WebElement webElement) {
+                        By locator = new Annotations(field).buildBy();
+                        elementLocators.put(webElement, locator);
+                        elementDescriptions.put(webElement, type.getSimpleName() + "." + field.getName()
+                                + " [" + locator + "]");
+                    }
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    log.debug(() -> "Unable to describe field " + field.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a field is located by PageFactory.
+     *
+     * @param field the field to check
+     * @return true if the field carries a PageFactory locator annotation
+     */
+    private static boolean isLocatorAnnotated(Field field) {
+        return field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class);
+    }
 }
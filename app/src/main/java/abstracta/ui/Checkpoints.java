@@ -0,0 +1,143 @@
+package abstracta.ui;
+
+import abstracta.api.OpenCartClient;
+import abstracta.framework.selenium.BrowserState;
+import abstracta.framework.selenium.DriverManager;
+import abstracta.utils.LoggerManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Singleton registry of browser-state checkpoints, so scenarios sharing an expensive opening can fork from it.
+ * The first scenario tagged {@value #TAG} that reaches a checkpoint runs the prefix and snapshots the browser:
+ * cookies, web storage and the page it ended on. Later tagged scenarios restore the snapshot and open that page
+ * directly instead of replaying the prefix. Scenarios without the tag always run the prefix.
+ * <p>
+ * The OpenCart session cookie is never part of a snapshot: forked scenarios sharing one server session would see
+ * and change each other's cart. Server-side state is rebuilt instead in a fresh session by an
+ * {@link OpenCartClient}, which costs a few HTTP calls rather than several page loads.
+ * Checkpoints live for one run, keyed by a name that must identify the prefix and its parameters; a prefix
+ * with other steps or parameters needs another name, and a snapshot that fails to restore is dropped and rebuilt.
+ */
+public class Checkpoints {
+    /**
+     * Tag of the scenarios allowed to restore and save checkpoints.
+     */
+    public static final String TAG = "@checkpoint";
+    private static final LoggerManager LOG = LoggerManager.getLogger(Checkpoints.class);
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> enabled = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Protected constructor to initialize the Checkpoints instance.
+     */
+    protected Checkpoints() {
+    }
+
+    /**
+     * Returns the singleton instance of Checkpoints.
+     *
+     * @return the singleton instance of Checkpoints
+     */
+    public static Checkpoints getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Initialization-on-demand holder, so parallel scenarios share one set of checkpoints.
+     */
+    private static final class Holder {
+        private static final Checkpoints INSTANCE = new Checkpoints();
+    }
+
+    /**
+     * Enables checkpoints for the scenario starting on the current thread when it carries the tag.
+     *
+     * @param tags the tags of the scenario
+     */
+    public void startScenario(Collection<String> tags) {
+        enabled.set(tags.contains(TAG));
+    }
+
+    /**
+     * Disables checkpoints on the current thread.
+     */
+    public void endScenario() {
+        enabled.remove();
+    }
+
+    /**
+     * Brings the browser to the state at the end of a prefix, restoring it from the checkpoint when one exists.
+     *
+     * @param name        the checkpoint name, identifying the prefix and its parameters
+     * @param page        the page object the prefix ends on, which must have a route in {@link PageTransporter}
+     * @param prefix      runs the prefix through the UI and returns the page it ends on
+     * @param serverState rebuilds the server-side state of the prefix in a fresh OpenCart session when restoring,
+     *                    or null if the prefix leaves none
+     * @param <T>         the page-object type
+     * @return the page object the prefix ends on
+     */
+    public <T extends BasePage> T reach(String name, Class<T> page, Supplier<T> prefix,
+                                        UnaryOperator<OpenCartClient> serverState) {
+        if (!enabled.get()) {
+            return prefix.get();
+        }
+        Snapshot snapshot = snapshots.get(name);
+        if (snapshot != null && snapshot.page == page) {
+            try {
+                T restored = restore(snapshot, page, serverState);
+                LOG.info("Restored checkpoint {}", name);
+                return restored;
+            } catch (RuntimeException e) {
+                LOG.warn("Checkpoint {} could not be restored, running its prefix again: {}", name, e.getMessage());
+                snapshots.remove(name, snapshot);
+            }
+        }
+        T result = prefix.get();
+        BrowserState state = DriverManager.getInstance().captureState(Set.of(OpenCartClient.SESSION_COOKIE));
+        snapshots.put(name, new Snapshot(page, state, PageTransporter.getInstance().relativePath(state.getUrl())));
+        LOG.info("Saved checkpoint {}", name);
+        return result;
+    }
+
+    /**
+     * Restores a snapshot: server-side state first, then cookies and web storage on the store origin,
+     * then the page the prefix ended on.
+     *
+     * @param snapshot    the snapshot to restore
+     * @param page        the page-object class
+     * @param serverState rebuilds the server-side state, or null
+     * @param <T>         the page-object type
+     * @return the page object
+     */
+    private <T extends BasePage> T restore(Snapshot snapshot, Class<T> page, UnaryOperator<OpenCartClient> serverState) {
+        PageTransporter transporter = PageTransporter.getInstance();
+        if (serverState != null) {
+            transporter.useSession(serverState.apply(new OpenCartClient()).getSessionId());
+        } else {
+            transporter.openStoreOrigin();
+        }
+        DriverManager.getInstance().restoreState(snapshot.state);
+        return transporter.navigateToPath(page, snapshot.path);
+    }
+
+    /**
+     * A saved checkpoint: the page the prefix ended on, its path and the browser state.
+     */
+    private static final class Snapshot {
+        private final Class<? extends BasePage> page;
+        private final BrowserState state;
+        private final String path;
+
+        private Snapshot(Class<? extends BasePage> page, BrowserState state, String path) {
+            this.page = page;
+            this.state = state;
+            this.path = path;
+        }
+    }
+}
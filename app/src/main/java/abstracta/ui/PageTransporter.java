@@ -1,22 +1,34 @@
 package abstracta.ui;
 
+import abstracta.api.OpenCartClient;
 import abstracta.framework.selenium.DriverManager;
 import abstracta.framework.*;
+import abstracta.framework.replay.ReplayProxy;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
 import abstracta.ui.pages.*;
 import abstracta.utils.LoggerManager;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Singleton class to manage navigation between pages.
+ * Pages are reached through a registry of {@link Route deep links}, one per page-object class, so a scenario
+ * opens the page it needs directly instead of clicking through the pages before it.
+ * The WebDriver is resolved from the current thread on every navigation, so a single
+ * transporter can be shared by scenarios running in parallel.
  */
 public class PageTransporter {
-    private static final LoggerManager LOG = LoggerManager.getInstance();
+    private static final LoggerManager LOG = LoggerManager.getLogger(PageTransporter.class);
     private static final CredentialsManager CREDENTIALS_MANAGER = CredentialsManager.getInstance();
+    /**
+     * Smallest page of the store, opened only to be on its domain when a cookie is set.
+     */
+    private static final String CART_INFO_PATH = "index.php?route=common/cart/info";
+    private final Map<Class<? extends BasePage>, Route<?>> routes = new ConcurrentHashMap<>();
     private String homePageURL;
 
-    private WebDriver driver;
-    private static PageTransporter instance;
-
     /**
      * Protected constructor to initialize the PageTransporter instance.
      */
@@ -30,29 +42,81 @@ public class PageTransporter {
      * @return the singleton instance of PageTransporter
      */
     public static PageTransporter getInstance() {
-        if (instance == null) {
-            instance = new PageTransporter();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
-     * Initializes the PageTransporter with the WebDriver and base URL.
+     * Defers creation of the shared transporter until it is first requested.
+     */
+    private static final class Holder {
+        private static final PageTransporter INSTANCE = new PageTransporter();
+    }
+
+    /**
+     * Initializes the PageTransporter with the base URL.
      */
     private void initialize() {
         LOG.info("Initializing Page Transporter");
-        this.driver = DriverManager.getInstance().getWebDriver();
         this.homePageURL = CREDENTIALS_MANAGER.getBaseURL();
+        register(HomePage.class, Route.of("", HomePage::new));
+        register(ShoppingCartPage.class, Route.of("index.php?route=checkout/cart", ShoppingCartPage::new));
+        register(SearchResultsPage.class, Route.of("index.php?route=product/search&search={0}",
+                SearchResultsPage::new));
+        register(ProductPage.class, Route.of("index.php?route=product/product&product_id={0}", ProductPage::new));
+    }
+
+    /**
+     * Registers the deep link of a page object, replacing any previous one.
+     *
+     * @param page  the page-object class
+     * @param route the route to the page
+     * @param <T>   the page-object type
+     */
+    public <T extends BasePage> void register(Class<T> page, Route<T> route) {
+        routes.put(page, route);
+    }
+
+    /**
+     * Navigates straight to a page through its registered route and returns its page object,
+     * loaded and ready to use.
+     * For example {@code navigateTo(SearchResultsPage.class, "iPhone")} or {@code navigateTo(ProductPage.class, 40)}.
+     *
+     * @param page   the page-object class
+     * @param params the values of the route placeholders, in order
+     * @param <T>    the page-object type
+     * @return a new instance of the page object
+     * @throws IllegalArgumentException if no route is registered for the page or the parameters do not match it
+     */
+    public <T extends BasePage> T navigateTo(Class<T> page, Object... params) {
+        LOG.info("Navigating to {}", page.getSimpleName());
+        return navigateToPath(page, routeOf(page).path(params));
+    }
+
+    /**
+     * Returns the route registered for a page object.
+     *
+     * @param page the page-object class
+     * @return the route
+     * @throws IllegalArgumentException if no route is registered for the page
+     */
+    private Route<?> routeOf(Class<? extends BasePage> page) {
+        Route<?> route = routes.get(page);
+        if (route == null) {
+            throw new IllegalArgumentException("No route registered for " + page.getSimpleName());
+        }
+        return route;
     }
 
     /**
-     * Navigates to the specified URL.
+     * Navigates to the specified URL, through the HTTP archive proxy of the scenario when one is running.
      *
      * @param url the URL to navigate to
      */
     private void goToURL(String url) {
-        LOG.info("Navigating to URL: " + url);
-        driver.navigate().to(url);
+        String target = ReplayProxy.route(url);
+        LOG.info("Navigating to URL: {}", target);
+        WebDriver driver = DriverManager.getInstance().getWebDriver();
+        driver.navigate().to(target);
     }
 
     /**
@@ -61,8 +125,71 @@ public class PageTransporter {
      * @return a new instance of LoginPage
      */
     public HomePage navigateToHomePage() {
-        LOG.info("Navigating to Home Page");
-        goToURL(homePageURL);
-        return new HomePage();
+        return navigateTo(HomePage.class);
+    }
+
+    /**
+     * Navigates to the Shopping Cart page.
+     *
+     * @return a new instance of ShoppingCartPage
+     */
+    public ShoppingCartPage navigateToShoppingCartPage() {
+        return navigateTo(ShoppingCartPage.class);
+    }
+
+    /**
+     * Makes the browser continue an OpenCart session started outside it, for example by an {@link OpenCartClient}.
+     * The browser first opens a tiny fragment of the store so the cookie can be set on its domain.
+     * The page object is not built; continue with {@link #navigateTo(Class, Object...)}.
+     *
+     * @param sessionId the OpenCart session id
+     */
+    public void useSession(String sessionId) {
+        LOG.info("Handing OpenCart session {} to the browser", sessionId);
+        openStoreOrigin();
+        WebDriver driver = DriverManager.getInstance().getWebDriver();
+        driver.manage().deleteCookieNamed(OpenCartClient.SESSION_COOKIE);
+        driver.manage().addCookie(new Cookie(OpenCartClient.SESSION_COOKIE, sessionId, "/"));
+    }
+
+    /**
+     * Opens the smallest page of the store, so cookies and web storage can be set on its origin
+     * before the page under test is loaded.
+     */
+    public void openStoreOrigin() {
+        goToURL(homePageURL + CART_INFO_PATH);
+    }
+
+    /**
+     * Navigates to a URL of the store captured earlier and returns the page object of the given class,
+     * built by its registered route and loaded.
+     *
+     * @param page the page-object class
+     * @param path the path of the page relative to the base URL, as returned by {@link #relativePath(String)}
+     * @param <T>  the page-object type
+     * @return a new instance of the page object
+     * @throws IllegalArgumentException if no route is registered for the page
+     */
+    public <T extends BasePage> T navigateToPath(Class<T> page, String path) {
+        Route<?> route = routeOf(page);
+        goToURL(homePageURL + path);
+        return page.cast(route.open());
+    }
+
+    /**
+     * Returns the path of a store URL relative to the base URL, whether or not the scenario goes through
+     * the HTTP archive proxy, so the path can be opened again in another scenario.
+     *
+     * @param url a URL of the store
+     * @return the path relative to the base URL
+     * @throws IllegalArgumentException if the URL does not belong to the store
+     */
+    public String relativePath(String url) {
+        for (String base : new String[]{ReplayProxy.route(homePageURL), homePageURL}) {
+            if (url.startsWith(base)) {
+                return url.substring(base.length());
+            }
+        }
+        throw new IllegalArgumentException(url + " is not a URL of " + homePageURL);
     }
 }
@@ -0,0 +1,91 @@
+package abstracta.ui;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Deep link to a page object: the path of the page relative to the base URL and the way to build its page object.
+ * The path may hold numbered placeholders, for example {@code index.php?route=product/product&product_id={0}},
+ * which are replaced by URL-encoded parameters when the route is followed.
+ *
+ * @param <T> the page object the route leads to
+ */
+public final class Route<T extends BasePage> {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\d+)}");
+    private final String pathTemplate;
+    private final int parameterCount;
+    private final Supplier<T> pageFactory;
+
+    /**
+     * Private constructor to create a route.
+     *
+     * @param pathTemplate the path relative to the base URL, with numbered placeholders
+     * @param pageFactory  builds the page object once the browser is on the page
+     */
+    private Route(String pathTemplate, Supplier<T> pageFactory) {
+        this.pathTemplate = pathTemplate;
+        this.pageFactory = pageFactory;
+        int highest = -1;
+        Matcher placeholder = PLACEHOLDER.matcher(pathTemplate);
+        while (placeholder.find()) {
+            highest = Math.max(highest, Integer.parseInt(placeholder.group(1)));
+        }
+        this.parameterCount = highest + 1;
+    }
+
+    /**
+     * Creates a route.
+     *
+     * @param pathTemplate the path relative to the base URL, with numbered placeholders
+     * @param pageFactory  builds the page object once the browser is on the page, usually its constructor
+     * @param <T>          the page object the route leads to
+     * @return the route
+     */
+    public static <T extends BasePage> Route<T> of(String pathTemplate, Supplier<T> pageFactory) {
+        return new Route<>(pathTemplate, pageFactory);
+    }
+
+    /**
+     * Builds the path of the page for the given parameters.
+     *
+     * @param params the values of the placeholders, in order
+     * @return the path relative to the base URL
+     * @throws IllegalArgumentException if the number of parameters does not match the placeholders
+     */
+    String path(Object... params) {
+        if (params.length != parameterCount) {
+            throw new IllegalArgumentException("Route " + pathTemplate + " expects " + parameterCount
+                    + " parameters, got " + params.length);
+        }
+        Matcher placeholder = PLACEHOLDER.matcher(pathTemplate);
+        StringBuilder path = new StringBuilder();
+        while (placeholder.find()) {
+            String value = String.valueOf(params[Integer.parseInt(placeholder.group(1))]);
+            placeholder.appendReplacement(path,
+                    Matcher.quoteReplacement(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        }
+        placeholder.appendTail(path);
+        return path.toString();
+    }
+
+    /**
+     * Builds the page object of the page the browser is on and waits until the page is loaded, so the route can
+     * be followed right after a navigation that returns as soon as the DOM is parsed.
+     *
+     * @return the initialized page object
+     * @throws org.openqa.selenium.WebDriverException if the page is not loaded within the timeout
+     */
+    T open() {
+        T page = pageFactory.get();
+        page.waitUntilPageObjectIsLoaded();
+        return page;
+    }
+
+    @Override
+    public String toString() {
+        return pathTemplate;
+    }
+}
@@ -33,7 +33,7 @@ public class SearchBarComponent extends BasePage {
     public SearchBarComponent() {
         PageFactory.initElements(driver, this);
         waitUntilPageObjectIsLoaded();
-        LOG.info("Initialized SearchBar component with WebDriver and Wait instances");
+        log.info("Initialized SearchBar component with WebDriver and Wait instances");
     }
 
     /**
@@ -43,10 +43,9 @@ public class SearchBarComponent extends BasePage {
      */
     @Override
     public void waitUntilPageObjectIsLoaded() throws WebDriverException {
-        LOG.info("Waiting until SearchBar component elements are loaded");
-        searchInputField = wait.until(ExpectedConditions.elementToBeClickable(searchInputField));
-        searchButton = wait.until(ExpectedConditions.elementToBeClickable(searchButton));
-        LOG.info("SearchBar component elements are loaded");
+        log.info("Waiting until SearchBar component elements are loaded");
+        waitUntilClickable(searchInputField, searchButton);
+        log.info("SearchBar component elements are loaded");
     }
 
     /**
@@ -58,7 +57,7 @@ public class SearchBarComponent extends BasePage {
     public SearchResultsPage performSearch(String searchTerm) {
         searchInputField.sendKeys(searchTerm);
         searchButton.click();
-        LOG.info("Performed search with term: " + searchTerm);
+        log.info("Performed search with term: {}", searchTerm);
         return new SearchResultsPage();
     }
 
@@ -66,10 +65,9 @@ public class SearchBarComponent extends BasePage {
      * Clicks the shopping cart button.
      */
     public void clickCartButton() {
-        WebElement cartButton = wait
-                .until(ExpectedConditions.elementToBeClickable(driver.findElement(By.cssSelector("#cart"))));
+        WebElement cartButton = wait.until(ExpectedConditions.elementToBeClickable(By.cssSelector("#cart")));
         cartButton.click();
-        LOG.info("Cart button clicked");
+        log.info("Cart button clicked");
     }
 
     /**
@@ -79,9 +77,9 @@ public class SearchBarComponent extends BasePage {
      */
     public ShoppingCartPage clickOnViewCartPage() {
         String viewCartSelector = "//a[contains(., 'View Cart')]";
-        WebElement viewCartButton = driver.findElement(By.xpath(viewCartSelector));
+        WebElement viewCartButton = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(viewCartSelector)));
         viewCartButton.click();
-        LOG.info("View Cart button clicked");
+        log.info("View Cart button clicked");
         return new ShoppingCartPage();
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package abstracta.ui.components;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import abstracta.ui.BasePage;
 import abstracta.ui.pages.ShoppingCartPage;
@@ -25,8 +24,8 @@ public class TopBarComponent extends BasePage {
      */
     @Override
     public void waitUntilPageObjectIsLoaded() throws WebDriverException {
-        shoppingCartButton = wait.until(ExpectedConditions.elementToBeClickable(shoppingCartButton));
-        LOG.info("Shopping cart button is loaded and clickable");
+        waitUntilClickable(shoppingCartButton);
+        log.info("Shopping cart button is loaded and clickable");
     }
 
     /**
@@ -37,7 +36,7 @@ public class TopBarComponent extends BasePage {
      */
     public ShoppingCartPage clickShoppingCartButton() {
         shoppingCartButton.click();
-        LOG.info("Shopping cart button clicked");
+        log.info("Shopping cart button clicked");
         return new ShoppingCartPage();
     }
 
@@ -0,0 +1,107 @@
+package abstracta.ui.models;
+
+import org.openqa.selenium.By;
+
+/**
+ * Immutable snapshot of a row of the shopping cart table.
+ */
+public final class CartItem {
+    private final int index;
+    private final String name;
+    private final String model;
+    private final int quantity;
+    private final String unitPrice;
+    private final String total;
+    private final By removeButtonLocator;
+
+    /**
+     * Creates a cart row snapshot.
+     *
+     * @param index               the 0-based position of the row in the cart table
+     * @param name                the product name
+     * @param model               the product model
+     * @param quantity            the quantity in the cart
+     * @param unitPrice           the unit price text
+     * @param total               the row total text
+     * @param removeButtonLocator the locator of the row's remove button
+     */
+    public CartItem(int index, String name, String model, int quantity, String unitPrice, String total,
+                    By removeButtonLocator) {
+        this.index = index;
+        this.name = name;
+        this.model = model;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+        this.total = total;
+        this.removeButtonLocator = removeButtonLocator;
+    }
+
+    /**
+     * Returns the 0-based position of the row in the cart table.
+     *
+     * @return the row index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the product name.
+     *
+     * @return the product name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the product model.
+     *
+     * @return the product model
+     */
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the quantity in the cart.
+     *
+     * @return the quantity
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Returns the unit price text.
+     *
+     * @return the unit price
+     */
+    public String getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * Returns the row total text.
+     *
+     * @return the row total
+     */
+    public String getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the locator of the row's remove button.
+     *
+     * @return the remove button locator
+     */
+    public By getRemoveButtonLocator() {
+        return removeButtonLocator;
+    }
+
+    @Override
+    public String toString() {
+        return "CartItem{index=" + index + ", name='" + name + "', model='" + model + "', quantity=" + quantity
+                + ", total='" + total + "'}";
+    }
+}
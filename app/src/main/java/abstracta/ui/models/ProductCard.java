@@ -0,0 +1,81 @@
+package abstracta.ui.models;
+
+import org.openqa.selenium.By;
+
+/**
+ * Immutable snapshot of a product card shown in the search results.
+ */
+public final class ProductCard {
+    private final int index;
+    private final String name;
+    private final String price;
+    private final String href;
+    private final By linkLocator;
+
+    /**
+     * Creates a product card snapshot.
+     *
+     * @param index       the 0-based position of the card in the results
+     * @param name        the product name shown on the card
+     * @param price       the price shown on the card, without the tax line
+     * @param href        the target of the product link
+     * @param linkLocator the locator of the product link
+     */
+    public ProductCard(int index, String name, String price, String href, By linkLocator) {
+        this.index = index;
+        this.name = name;
+        this.price = price;
+        this.href = href;
+        this.linkLocator = linkLocator;
+    }
+
+    /**
+     * Returns the 0-based position of the card in the results.
+     *
+     * @return the card index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the product name shown on the card.
+     *
+     * @return the product name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the price shown on the card, without the tax line.
+     *
+     * @return the price text
+     */
+    public String getPrice() {
+        return price;
+    }
+
+    /**
+     * Returns the target of the product link.
+     *
+     * @return the link URL as written in the page
+     */
+    public String getHref() {
+        return href;
+    }
+
+    /**
+     * Returns the locator of the product link.
+     *
+     * @return the link locator
+     */
+    public By getLinkLocator() {
+        return linkLocator;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductCard{index=" + index + ", name='" + name + "', price='" + price + "'}";
+    }
+}
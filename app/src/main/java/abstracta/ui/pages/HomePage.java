@@ -1,43 +1,37 @@
 package abstracta.ui.pages;
 
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import abstracta.ui.BasePage;
 
+import java.util.function.Function;
 
-public class HomePage extends BasePage {
 
-    /**
-     * Slide show element of the home page.
-     */
-    @FindBy(css = ".swiper-viewport #slideshow0")
-    private WebElement slideShowElement;
+public class HomePage extends BasePage {
 
     /**
-     * Content element of the home page.
+     * Content rows of the home page. The page is usable once they are visible,
+     * without waiting for the slideshow images and third-party scripts to finish loading.
      */
-    @FindBy(css =  "#content .row")
-    private WebElement content;
+    private static final By CONTENT = By.cssSelector("#content .row");
 
     /**
-     * Constructor to initialize the HomePage elements and wait until the page is fully loaded.
+     * Constructor to initialize the HomePage elements and wait until the page is ready.
      */
     public HomePage() {
         PageFactory.initElements(driver, this);
         waitUntilPageObjectIsLoaded();
-        LOG.info("Initialized HomePage with WebDriver and Wait instances");
+        log.info("Initialized HomePage with WebDriver and Wait instances");
     }
 
     /**
-     * Waits until the home page elements are fully loaded.
+     * The home page is ready as soon as its content rows are visible.
+     *
+     * @return the readiness condition of the home page
      */
     @Override
-    public void waitUntilPageObjectIsLoaded() {
-        LOG.info("Waiting until HomePage elements are loaded");
-        slideShowElement = wait.until(ExpectedConditions.visibilityOf(slideShowElement));
-        content = wait.until(ExpectedConditions.visibilityOf(content));
-        LOG.info("HomePage elements are loaded");
+    protected Function<? super WebDriver, ?> readiness() {
+        return allVisible(CONTENT);
     }
 }
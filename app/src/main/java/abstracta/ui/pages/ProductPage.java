@@ -42,10 +42,10 @@ public class ProductPage extends BasePage {
      */
     @Override
     public void waitUntilPageObjectIsLoaded() throws WebDriverException {
-        content = wait.until(ExpectedConditions.visibilityOf(content));
-        LOG.info("Product page is loaded and visible");
-        addToCartButton = wait.until(ExpectedConditions.elementToBeClickable(addToCartButton));
-        LOG.info("Add to cart button is loaded and clickable");
+        waitUntilVisible(content);
+        log.info("Product page is loaded and visible");
+        waitUntilClickable(addToCartButton);
+        log.info("Add to cart button is loaded and clickable");
     }
 
     /**
@@ -53,7 +53,7 @@ public class ProductPage extends BasePage {
      */
     public void addToCart() {
         addToCartButton.click();
-        LOG.info("Added product to cart");
+        log.info("Added product to cart");
     }
 
     /**
@@ -68,7 +68,7 @@ public class ProductPage extends BasePage {
                 By.cssSelector("div.alert.alert-success.alert-dismissible")));
             return successMessageAlert.isDisplayed();
         } catch (Exception e) {
-            LOG.error("Success message not displayed");
+            log.error("Success message not displayed");
             e.printStackTrace();
             return false;
         }
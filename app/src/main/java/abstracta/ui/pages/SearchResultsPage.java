@@ -1,22 +1,51 @@
 package abstracta.ui.pages;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import abstracta.ui.BasePage;
+import abstracta.ui.models.ProductCard;
 
 /**
  * Represents the search results page in the web application.
  * This page object allows interaction with the list of products displayed after a search.
+ * The result grid is read into immutable {@link ProductCard} snapshots with one script call,
+ * so looking a product up costs no browser round trip per card.
  * Extends {@link BasePage} for common page functionalities.
  */
 public class SearchResultsPage extends BasePage {
+    private static final String CARDS_XPATH =
+            "//div[@id='content']//div[contains(concat(' ', normalize-space(@class), ' '), ' product-layout ')]";
+    private static final String LINK_XPATH = "//div[contains(@class, 'caption')]//h4//a";
+    /**
+     * Reads name, price and link of every card; the price drops the tax line and any crossed-out old price.
+     */
+    private static final String CARDS_SCRIPT = """
+            var cards = document.evaluate(arguments[0], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+            var result = [];
+            for (var i = 0; i < cards.snapshotLength; i++) {
+              var card = cards.snapshotItem(i), link = card.querySelector('div.caption h4 a');
+              var price = card.querySelector('p.price');
+              if (price) {
+                price = price.cloneNode(true);
+                price.querySelectorAll('.price-tax, .price-old').forEach(function (node) { node.remove(); });
+              }
+              result.push({
+                name: link ? link.textContent.trim() : '',
+                price: price ? price.textContent.trim() : '',
+                href: link ? link.getAttribute('href') : ''
+              });
+            }
+            return result;
+            """;
 
     /**
      * WebElement representing the container of search results.
@@ -31,8 +60,27 @@ public class SearchResultsPage extends BasePage {
      */
     @Override
     public void waitUntilPageObjectIsLoaded() throws WebDriverException {
-        searchResults = wait.until(ExpectedConditions.visibilityOf(searchResults));
-        LOG.info("Search results are loaded and visible");
+        waitUntilVisible(searchResults);
+        log.info("Search results are loaded and visible");
+    }
+
+    /**
+     * Loads every product card of the results into memory with a single script call.
+     *
+     * @return the product cards, in page order
+     */
+    @SuppressWarnings("unchecked")
+    public List<ProductCard> getProducts() {
+        List<Map<String, Object>> cards = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(CARDS_SCRIPT, CARDS_XPATH);
+        List<ProductCard> products = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            Map<String, Object> card = cards.get(i);
+            products.add(new ProductCard(i, (String) card.get("name"), (String) card.get("price"),
+                    (String) card.get("href"), By.xpath("(" + CARDS_XPATH + ")[" + (i + 1) + "]" + LINK_XPATH)));
+        }
+        log.info(() -> "Loaded " + products.size() + " product card(s) from the search results");
+        return List.copyOf(products);
     }
 
     /**
@@ -44,15 +92,11 @@ public class SearchResultsPage extends BasePage {
      * @throws NoSuchElementException if no product is found at the given index.
      */
     public ProductPage selectProduct(int productIndex) {
-        List<WebElement> products = searchResults.findElements(By.cssSelector("div.product-layout"));
+        List<ProductCard> products = getProducts();
         if (productIndex < 0 || productIndex >= products.size()) {
             throw new NoSuchElementException("No product found at index " + productIndex);
         }
-        WebElement product = products.get(productIndex);
-        // Assuming product name is within <a> tag inside "div.caption h4"
-        WebElement productLink = product.findElement(By.cssSelector("div.caption h4 a"));
-        productLink.click();
-        return new ProductPage();
+        return open(products.get(productIndex));
     }
 
     /**
@@ -64,14 +108,22 @@ public class SearchResultsPage extends BasePage {
      * @throws NoSuchElementException if no product is found with the given name.
      */
     public ProductPage selectProductByName(String productName) {
-        List<WebElement> products = searchResults.findElements(By.cssSelector("div.product-layout"));
-        for (WebElement product : products) {
-            WebElement productLink = product.findElement(By.cssSelector("div.caption h4 a"));
-            if (productLink.getText().trim().equalsIgnoreCase(productName)) {
-                productLink.click();
-                return new ProductPage();
-            }
-        }
-        throw new NoSuchElementException("No product found with name: " + productName);
+        return getProducts().stream()
+                .filter(product -> product.getName().equalsIgnoreCase(productName.trim()))
+                .findFirst()
+                .map(this::open)
+                .orElseThrow(() -> new NoSuchElementException("No product found with name: " + productName));
+    }
+
+    /**
+     * Clicks the link of a product card.
+     *
+     * @param product the card to open
+     * @return the Product Page of the product
+     */
+    private ProductPage open(ProductCard product) {
+        log.info(() -> "Selecting " + product);
+        click(driver.findElement(product.getLinkLocator()));
+        return new ProductPage();
     }
-}
\ No newline at end of file
+}
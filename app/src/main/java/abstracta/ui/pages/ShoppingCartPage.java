@@ -1,22 +1,52 @@
 package abstracta.ui.pages;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import abstracta.ui.BasePage;
+import abstracta.ui.models.CartItem;
 
 /**
  * Represents the shopping cart page in the web application.
  * This page object provides methods to interact with the shopping cart,
  * such as verifying products, removing products, and checking for empty cart messages.
+ * The cart table is read into immutable {@link CartItem} snapshots with one script call,
+ * and questions about its content are answered in memory.
  * Extends {@link BasePage} for common page functionalities.
  */
 public class ShoppingCartPage extends BasePage {
+    private static final String ROWS_XPATH =
+            "//div[contains(@class, 'table-responsive')]//table[contains(@class, 'table-bordered')]//tbody/tr";
+    /**
+     * Reads the columns of every row: image, name, model, quantity, unit price and total.
+     */
+    private static final String ROWS_SCRIPT = """
+            var rows = document.evaluate(arguments[0], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+            var result = [];
+            for (var i = 0; i < rows.snapshotLength; i++) {
+              var cells = rows.snapshotItem(i).cells;
+              var text = function (index) { return cells[index] ? cells[index].textContent.trim() : ''; };
+              var link = cells[1] ? cells[1].querySelector('a') : null;
+              var quantity = cells[3] ? cells[3].querySelector('input') : null;
+              result.push({
+                name: link ? link.textContent.trim() : '',
+                model: text(2),
+                quantity: quantity ? parseInt(quantity.value, 10) || 0 : 0,
+                unitPrice: text(4),
+                total: text(5)
+              });
+            }
+            return result;
+            """;
 
     /**
      * WebElement representing the main content area of the shopping cart page.
@@ -43,8 +73,29 @@ public class ShoppingCartPage extends BasePage {
      */
     @Override
     public void waitUntilPageObjectIsLoaded() throws WebDriverException {
-        content = wait.until(ExpectedConditions.visibilityOf(content));
-        LOG.info("Shopping cart page content is loaded and visible");
+        waitUntilVisible(content);
+        log.info("Shopping cart page content is loaded and visible");
+    }
+
+    /**
+     * Loads every row of the cart table into memory with a single script call.
+     *
+     * @return the cart rows, in table order
+     */
+    @SuppressWarnings("unchecked")
+    public List<CartItem> getItems() {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(ROWS_SCRIPT, ROWS_XPATH);
+        List<CartItem> items = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            items.add(new CartItem(i, (String) row.get("name"), (String) row.get("model"),
+                    ((Number) row.get("quantity")).intValue(), (String) row.get("unitPrice"),
+                    (String) row.get("total"),
+                    By.xpath("(" + ROWS_XPATH + ")[" + (i + 1) + "]//button[contains(@class, 'btn-danger')]")));
+        }
+        log.info(() -> "Loaded " + items.size() + " item(s) from the shopping cart");
+        return List.copyOf(items);
     }
 
     /**
@@ -52,11 +103,10 @@ public class ShoppingCartPage extends BasePage {
      *
      * @param productName The name of the product to find the row for.
      * @return WebElement representing the table row containing the product.
+     * @throws org.openqa.selenium.TimeoutException if no row of the product becomes visible within the timeout.
      */
     public WebElement getRowByProductName(String productName) {
-        String xpath = "//div[@class='table-responsive']//table[@class='table table-bordered']//tbody/tr[td[2]//a[normalize-space()='"
-                + productName + "']]";
-        return driver.findElement(By.xpath(xpath));
+        return wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(rowXPath(productName))));
     }
 
     /**
@@ -67,25 +117,45 @@ public class ShoppingCartPage extends BasePage {
      */
     public boolean isProductInCart(String productName) {
         waitUntilPageObjectIsLoaded();
-        List<WebElement> rows = driver.findElements(By.xpath(
-                "//div[contains(@class, 'table-responsive')]//table[contains(@class, 'table-bordered')]//tr[td[contains(.,'"
-                        + productName + "')]]"));
-        return !rows.isEmpty();
+        return getItems().stream().anyMatch(item -> item.getName().contains(productName));
     }
 
     /**
      * Removes a product from the shopping cart by clicking the remove button associated with the product.
      *
      * @param productName The name of the product to remove.
+     * @throws NoSuchElementException if the product is not in the cart.
      */
     public void removeProduct(String productName) {
-        String xpath = "//div[@class='table-responsive']//table[@class='table table-bordered']//tbody/tr[td[2]//a[normalize-space()='"
-                + productName + "']]";
-        WebElement row = driver.findElement(By.xpath(xpath));
-        WebElement removeButton = row.findElement(By.cssSelector("button.btn-danger"));
-        removeButton.click();
+        CartItem item = getItems().stream()
+                .filter(candidate -> candidate.getName().equals(productName.trim()))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("No product in the cart with name: " + productName));
+        click(driver.findElement(item.getRemoveButtonLocator()));
         // Wait until the product row disappears from the DOM
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(By.xpath(xpath)));
+        waitUntilGone(By.xpath(rowXPath(productName)));
+    }
+
+    /**
+     * Checks that no cart row mentions the product, returning as soon as the page confirms it.
+     * Unlike {@link #isProductInCart(String)} this tolerates a row that is still being removed.
+     *
+     * @param productName The name of the product expected to be absent.
+     * @return {@code true} once the product is no longer in the cart, {@code false} if it is still there after the timeout.
+     */
+    public boolean isProductNotInCart(String productName) {
+        waitUntilPageObjectIsLoaded();
+        return isEventuallyGone(By.xpath(ROWS_XPATH + "[td[contains(., '" + productName + "')]]"));
+    }
+
+    /**
+     * Builds the XPath of the cart row whose product link has the given name.
+     *
+     * @param productName the product name
+     * @return the row XPath
+     */
+    private static String rowXPath(String productName) {
+        return ROWS_XPATH + "[td[2]//a[normalize-space()='" + productName + "']]";
     }
 
     /**
@@ -98,10 +168,10 @@ public class ShoppingCartPage extends BasePage {
             // Wait until the element contains the expected text
             Boolean messageIsPresent = wait.until(
                     ExpectedConditions.textToBePresentInElement(emptyCartMessage, "Your shopping cart is empty!"));
-            LOG.info("Empty cart message is displayed: " + messageIsPresent);
+            log.info("Empty cart message is displayed: {}", messageIsPresent);
             return messageIsPresent;
         } catch (Exception e) {
-            LOG.error("Empty cart message not displayed");
+            log.error("Empty cart message not displayed");
             return false;
         }
     }
@@ -116,10 +186,10 @@ public class ShoppingCartPage extends BasePage {
             // Wait until the element is visible
             cartTotal = wait.until(ExpectedConditions.visibilityOf(cartTotal));
             String totalText = cartTotal.getText().trim();
-            LOG.info("Cart total text: " + totalText);
+            log.info("Cart total text: {}", totalText);
             return totalText.equals("0 item(s) - $0.00");
         } catch (Exception e) {
-            LOG.error("Error checking cart total");
+            log.error("Error checking cart total");
             return false;
         }
     }
@@ -3,54 +3,56 @@ package abstracta.utils;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.core.LoggerContext;
 
-import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
- * Singleton class to manage logging using Log4j2.
+ * Thin facade over Log4j2 loggers, one per class.
+ * Messages are either parameterized ({@code {}} placeholders, formatted only when the level is enabled)
+ * or built lazily by a supplier, so disabled levels cost a level check and nothing else.
+ * Log4j2 loads {@code log4j2.properties} from the classpath; the appenders write asynchronously,
+ * so test threads do not wait on file I/O.
  */
 public class LoggerManager {
-    private Logger logger;
-    private static LoggerManager instance;
+    private static final Map<String, LoggerManager> LOGGERS = new ConcurrentHashMap<>();
+    private final Logger logger;
 
     /**
-     * Private constructor to initialize the logger.
+     * Private constructor to wrap a Log4j2 logger.
+     *
+     * @param logger the wrapped logger
      */
-    private LoggerManager() {
-        initialize();
+    private LoggerManager(Logger logger) {
+        this.logger = logger;
     }
 
     /**
-     * Returns the singleton instance of LoggerManager.
+     * Returns the logger of a class, created on first use and shared afterwards.
+     * Keep the result in a {@code static final} field rather than calling this for every message.
      *
-     * @return the singleton instance of LoggerManager
+     * @param type the class whose name the logger takes
+     * @return the logger of the class
      */
-    public static LoggerManager getInstance() {
-        if (instance == null) {
-            instance = new LoggerManager();
-        }
-        return instance;
+    public static LoggerManager getLogger(Class<?> type) {
+        return LOGGERS.computeIfAbsent(type.getName(), name -> new LoggerManager(LogManager.getLogger(type)));
     }
 
     /**
-     * Initializes the logger with the configuration file.
+     * Returns the shared logger of the framework, for code that is not tied to a class.
+     *
+     * @return the framework logger
      */
-    private void initialize() {
-        LoggerContext context = (LoggerContext) LogManager.getContext(false);
-        File file = new File(System.getProperty("user.dir") + File.separator + "src" + File.separator + "main" + File.separator + "resources" + File.separator + "log4j2.properties");
-        context.setConfigLocation(file.toURI());
-        logger = LogManager.getLogger(LogManager.class);
+    public static LoggerManager getInstance() {
+        return Holder.INSTANCE;
     }
 
     /**
-     * Logs a message at the specified level.
-     *
-     * @param level   the logging level
-     * @param message the message to log
+     * Lazily initialized holder, the JVM guarantees the instance is created once even under parallel execution.
      */
-    private void log(Level level, String message) {
-        getInstance().logger.log(level, message);
+    private static final class Holder {
+        private static final LoggerManager INSTANCE = new LoggerManager(LogManager.getLogger("abstracta"));
     }
 
     /**
@@ -59,16 +61,47 @@ public class LoggerManager {
      * @param message the message to log
      */
     public void debug(String message) {
-        log(Level.DEBUG, message);
+        logger.debug(message);
     }
 
     /**
-     * Logs an error message.
+     * Logs a debug message with one parameter, formatted only when the level is enabled.
      *
-     * @param message the message to log
+     * @param format the message with a {@code {}} placeholder
+     * @param param  the parameter
      */
-    public void error(String message) {
-        log(Level.ERROR, message);
+    public void debug(String format, Object param) {
+        logger.debug(format, param);
+    }
+
+    /**
+     * Logs a debug message with two parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param first  the first parameter
+     * @param second the second parameter
+     */
+    public void debug(String format, Object first, Object second) {
+        logger.debug(format, first, second);
+    }
+
+    /**
+     * Logs a debug message with any number of parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param params the parameters
+     */
+    public void debug(String format, Object... params) {
+        logger.debug(format, params);
+    }
+
+    /**
+     * Logs a lazily built debug message.
+     *
+     * @param message supplies the message to log
+     */
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
     }
 
     /**
@@ -77,6 +110,46 @@ public class LoggerManager {
      * @param message the message to log
      */
     public void info(String message) {
+        logger.info(message);
+    }
+
+    /**
+     * Logs an info message with one parameter, formatted only when the level is enabled.
+     *
+     * @param format the message with a {@code {}} placeholder
+     * @param param  the parameter
+     */
+    public void info(String format, Object param) {
+        logger.info(format, param);
+    }
+
+    /**
+     * Logs an info message with two parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param first  the first parameter
+     * @param second the second parameter
+     */
+    public void info(String format, Object first, Object second) {
+        logger.info(format, first, second);
+    }
+
+    /**
+     * Logs an info message with any number of parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param params the parameters
+     */
+    public void info(String format, Object... params) {
+        logger.info(format, params);
+    }
+
+    /**
+     * Logs a lazily built info message.
+     *
+     * @param message supplies the message to log
+     */
+    public void info(Supplier<String> message) {
         log(Level.INFO, message);
     }
 
@@ -86,6 +159,119 @@ public class LoggerManager {
      * @param message the message to log
      */
     public void warn(String message) {
-        log(Level.WARN, message);
+        logger.warn(message);
+    }
+
+    /**
+     * Logs a warning message with one parameter, formatted only when the level is enabled.
+     *
+     * @param format the message with a {@code {}} placeholder
+     * @param param  the parameter
+     */
+    public void warn(String format, Object param) {
+        logger.warn(format, param);
+    }
+
+    /**
+     * Logs a warning message with two parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param first  the first parameter
+     * @param second the second parameter
+     */
+    public void warn(String format, Object first, Object second) {
+        logger.warn(format, first, second);
+    }
+
+    /**
+     * Logs a warning message with any number of parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param params the parameters
+     */
+    public void warn(String format, Object... params) {
+        logger.warn(format, params);
+    }
+
+    /**
+     * Logs an error message.
+     *
+     * @param message the message to log
+     */
+    public void error(String message) {
+        logger.error(message);
+    }
+
+    /**
+     * Logs an error message with one parameter, formatted only when the level is enabled.
+     * A trailing {@link Throwable} parameter is logged with its stack trace.
+     *
+     * @param format the message with a {@code {}} placeholder
+     * @param param  the parameter
+     */
+    public void error(String format, Object param) {
+        logger.error(format, param);
+    }
+
+    /**
+     * Logs an error message with two parameters, formatted only when the level is enabled.
+     * A trailing {@link Throwable} parameter is logged with its stack trace.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param first  the first parameter
+     * @param second the second parameter
+     */
+    public void error(String format, Object first, Object second) {
+        logger.error(format, first, second);
+    }
+
+    /**
+     * Logs an error message with any number of parameters, formatted only when the level is enabled.
+     *
+     * @param format the message with {@code {}} placeholders
+     * @param params the parameters
+     */
+    public void error(String format, Object... params) {
+        logger.error(format, params);
+    }
+
+    /**
+     * Logs a lazily built error message.
+     *
+     * @param message supplies the message to log
+     */
+    public void error(Supplier<String> message) {
+        log(Level.ERROR, message);
+    }
+
+    /**
+     * Logs a lazily built message at the specified level.
+     * The supplier is only invoked when the level is enabled.
+     *
+     * @param level   the logging level
+     * @param message supplies the message to log
+     */
+    private void log(Level level, Supplier<String> message) {
+        if (logger.isEnabled(level)) {
+            logger.log(level, message.get());
+        }
+    }
+
+    /**
+     * Returns whether debug messages are logged.
+     *
+     * @return true if the debug level is enabled
+     */
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    /**
+     * Returns whether info messages are logged.
+     *
+     * @return true if the info level is enabled
+     */
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
     }
 }
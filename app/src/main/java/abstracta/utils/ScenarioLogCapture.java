@@ -0,0 +1,117 @@
+package abstracta.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the log lines of every running scenario in memory, separately per scenario.
+ * The scenario a line belongs to is read from the Log4j2 {@link ThreadContext}, which the hooks stamp with the
+ * scenario name and id, so parallel scenarios never mix. A scenario's buffer is handed back when it ends and
+ * only written to disk by the caller when the scenario failed; passing scenarios cost no I/O at all.
+ */
+public final class ScenarioLogCapture {
+    /**
+     * ThreadContext key holding the name of the scenario running on the thread.
+     */
+    public static final String SCENARIO_KEY = "scenario";
+    /**
+     * ThreadContext key holding the unique id of the scenario running on the thread.
+     */
+    public static final String SCENARIO_ID_KEY = "scenarioId";
+    private static final int MAX_CHARS = 4 * 1024 * 1024;
+    private static final Map<String, StringBuilder> BUFFERS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ScenarioLogCapture() {
+    }
+
+    /**
+     * Stamps the current thread with the scenario and starts capturing its log lines.
+     *
+     * @param scenarioId   the unique id of the scenario
+     * @param scenarioName the name of the scenario
+     */
+    public static void start(String scenarioId, String scenarioName) {
+        Installer.ensureInstalled();
+        BUFFERS.put(scenarioId, new StringBuilder());
+        ThreadContext.put(SCENARIO_ID_KEY, scenarioId);
+        ThreadContext.put(SCENARIO_KEY, scenarioName);
+    }
+
+    /**
+     * Stops capturing the scenario, clears the thread stamp and returns what was captured.
+     *
+     * @param scenarioId the unique id of the scenario
+     * @return the captured log lines, empty if none
+     */
+    public static String finish(String scenarioId) {
+        ThreadContext.remove(SCENARIO_ID_KEY);
+        ThreadContext.remove(SCENARIO_KEY);
+        StringBuilder buffer = BUFFERS.remove(scenarioId);
+        if (buffer == null) {
+            return "";
+        }
+        synchronized (buffer) {
+            return buffer.toString();
+        }
+    }
+
+    /**
+     * Adds the capture appender to the root logger once, on first use.
+     */
+    private static final class Installer {
+        static {
+            LoggerContext context = (LoggerContext) LogManager.getContext(false);
+            Configuration configuration = context.getConfiguration();
+            CaptureAppender appender = new CaptureAppender(PatternLayout.newBuilder()
+                    .withConfiguration(configuration)
+                    .withPattern("%d{HH:mm:ss.SSS} %level [%t] [%c{1}] - %msg%n")
+                    .build());
+            appender.start();
+            configuration.addAppender(appender);
+            configuration.getRootLogger().addAppender(appender, null, null);
+            context.updateLoggers();
+        }
+
+        private static void ensureInstalled() {
+            // Loading the class runs the static initializer exactly once
+        }
+    }
+
+    /**
+     * Appender that formats each event into the buffer of the scenario it was logged from.
+     * It runs synchronously on the logging thread, so a scenario's buffer is complete when the scenario ends.
+     */
+    private static final class CaptureAppender extends AbstractAppender {
+
+        private CaptureAppender(PatternLayout layout) {
+            super("scenarioCapture", null, layout, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            String scenarioId = event.getContextData().getValue(SCENARIO_ID_KEY);
+            StringBuilder buffer = scenarioId == null ? null : BUFFERS.get(scenarioId);
+            if (buffer == null) {
+                return;
+            }
+            String line = (String) getLayout().toSerializable(event);
+            synchronized (buffer) {
+                if (buffer.length() + line.length() <= MAX_CHARS) {
+                    buffer.append(line);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package abstracta.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link OpenCartClient} against a local stub of the two storefront endpoints it calls:
+ * the product search page and the {@code checkout/cart/add} JSON endpoint.
+ */
+class OpenCartClientTest {
+    private static final String SESSION_ID = "stub-session-1";
+    private final List<String> cartRequests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private String baseURL;
+    private volatile String cartResponse = "{\"success\":\"Success: You have added iPhone to your shopping cart!\"}";
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/index.php", this::handle);
+        server.start();
+        baseURL = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    /**
+     * Serves the search page and the add-to-cart endpoint, starting an OpenCart session on the first call.
+     *
+     * @param exchange the exchange with the client
+     * @throws IOException if the response cannot be sent
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        String body;
+        if (query.startsWith("route=product/search")) {
+            body = "<div class=\"caption\"><h4><a href=\"" + baseURL + "index.php?route=product/product"
+                    + "&amp;product_id=40&amp;search=iPhone\">iPhone</a></h4></div>"
+                    + "<div class=\"caption\"><h4><a href=\"" + baseURL + "index.php?route=product/product"
+                    + "&amp;product_id=41&amp;search=iPhone\">iPhone Case</a></h4></div>";
+        } else if (query.startsWith("route=checkout/cart/add") && "POST".equals(exchange.getRequestMethod())) {
+            cartRequests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            body = cartResponse;
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("Set-Cookie", OpenCartClient.SESSION_COOKIE + "=" + SESSION_ID + "; path=/");
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    @Test
+    void findsTheProductIdByExactName() {
+        OpenCartClient client = new OpenCartClient(baseURL);
+
+        assertEquals(40, client.findProductId("iPhone"));
+        assertEquals(41, client.findProductId("iPhone Case"));
+    }
+
+    @Test
+    void addsTheProductToTheCartOfTheSession() {
+        OpenCartClient client = new OpenCartClient(baseURL);
+
+        client.addToCart("iPhone", 2);
+
+        assertEquals(List.of("product_id=40&quantity=2"), cartRequests);
+        assertEquals(SESSION_ID, client.getSessionId());
+    }
+
+    @Test
+    void failsWhenNoProductHasTheName() {
+        OpenCartClient client = new OpenCartClient(baseURL);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> client.addToCart("Nokia 3310", 1));
+        assertTrue(error.getMessage().contains("Nokia 3310"), error.getMessage());
+        assertTrue(cartRequests.isEmpty());
+    }
+
+    @Test
+    void failsWhenTheStoreDoesNotAddTheProduct() {
+        cartResponse = "{\"error\":{\"option\":{\"226\":\"Select required!\"}}}";
+        OpenCartClient client = new OpenCartClient(baseURL);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> client.addToCart(40, 1));
+        assertTrue(error.getMessage().contains("did not add product 40"), error.getMessage());
+    }
+
+    @Test
+    void failsWhenNoSessionHasStarted() {
+        assertThrows(IllegalStateException.class, () -> new OpenCartClient(baseURL).getSessionId());
+    }
+}
@@ -0,0 +1,30 @@
+package abstracta.hooks;
+
+import abstracta.framework.selenium.DriverPool;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+
+/**
+ * Cucumber plugin that starts booting the first browser as soon as Cucumber creates its plugins,
+ * before the glue is scanned and the features are parsed.
+ * The session is handed to the first scenario through the {@link DriverPool}.
+ * Only has an effect when {@code webdriver.prelaunch} is enabled.
+ */
+public class DriverPrelaunchPlugin implements ConcurrentEventListener {
+
+    /**
+     * Creates the plugin and triggers the speculative browser launch.
+     */
+    public DriverPrelaunchPlugin() {
+        DriverPool.getInstance().prelaunch();
+    }
+
+    /**
+     * No events are needed; the work is started from the constructor.
+     *
+     * @param publisher the Cucumber event publisher
+     */
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+    }
+}
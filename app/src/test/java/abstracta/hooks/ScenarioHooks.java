@@ -1,13 +1,23 @@
 package abstracta.hooks;
 
 import abstracta.framework.selenium.DriverManager;
+import abstracta.framework.replay.ReplayProxy;
+import abstracta.framework.selenium.NetworkProfile;
+import abstracta.framework.telemetry.CommandTelemetry;
+import abstracta.ui.Checkpoints;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
 import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import abstracta.utils.LoggerManager;
+import abstracta.utils.ScenarioLogCapture;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.logging.Level;
 
 import org.openqa.selenium.OutputType;
@@ -22,7 +32,8 @@ import static org.openqa.selenium.edge.EdgeDriverService.EDGE_DRIVER_SILENT_OUTP
  * as well as after each step, especially for UI tests.
  */
 public class ScenarioHooks {
-    private static final LoggerManager LOG = LoggerManager.getInstance();
+    private static final LoggerManager LOG = LoggerManager.getLogger(ScenarioHooks.class);
+    private static final Path SCENARIO_LOG_DIR = Paths.get("logs", "scenarios");
 
     /**
      * Disables verbose logging from WebDriver and related components.
@@ -37,15 +48,21 @@ public class ScenarioHooks {
 
     /**
      * Executed before each scenario.
-     * Initializes the WebDriver instance and disables Java loggers to clean up console output.
+     * Stamps the thread's log context with the scenario, so its log lines can be told apart in parallel runs,
+     * initializes the WebDriver instance with the network profile chosen by the scenario tags
+     * and disables Java loggers to clean up console output.
      *
      * @param scenario The current Cucumber scenario being executed.
      */
     @Before(order = 1)
     public void beforeScenario(Scenario scenario) {
-        LOG.info("Scenario: --> " + scenario.getName());
+        ScenarioLogCapture.start(scenario.getId(), scenario.getName());
+        LOG.info("Scenario: --> {}", scenario.getName());
+        CommandTelemetry.getInstance().startScenario(scenario.getName());
         disableOtherJavaLoggers();
-        DriverManager.getInstance().getWebDriver();
+        DriverManager.getInstance().applyNetworkProfile(NetworkProfile.forTags(scenario.getSourceTagNames()));
+        ReplayProxy.startScenario(fileName(scenario));
+        Checkpoints.getInstance().startScenario(scenario.getSourceTagNames());
     }
 
     /**
@@ -61,17 +78,64 @@ public class ScenarioHooks {
             TakesScreenshot screenshotManager = (TakesScreenshot) DriverManager.getInstance().getWebDriver();
             byte[] screenshot = screenshotManager.getScreenshotAs(OutputType.BYTES);
             scenario.attach(screenshot, "image/png", "Step Failure Screenshot");
-            LOG.info("Screenshot attached for failed step in scenario: " + scenario.getName());
+            LOG.info("Screenshot attached for failed step in scenario: {}", scenario.getName());
         }
     }
 
     /**
-     * Executed after all scenarios have completed.
-     * Quits the WebDriver instance to close the browser and release resources.
+     * Executed after each scenario.
+     * Returns the WebDriver to the pool so the next scenario reuses the warm browser;
+     * the pool itself quits every remaining browser when the JVM exits.
+     * The log lines of a failed scenario are written to their own file and attached to the report;
+     * those of a passed scenario are discarded.
+     *
+     * @param scenario The current Cucumber scenario.
      */
     @After
-    public void afterScenario() {
-        DriverManager.getInstance().quitWebDriver();
-        DriverManager.resetInstance(); 
+    public void afterScenario(Scenario scenario) {
+        DriverManager.releaseInstance();
+        ReplayProxy.endScenario();
+        Checkpoints.getInstance().endScenario();
+        CommandTelemetry.getInstance().endScenario();
+        String log = ScenarioLogCapture.finish(scenario.getId());
+        if (scenario.isFailed() && !log.isEmpty()) {
+            attachScenarioLog(scenario, log);
+        }
+    }
+
+    /**
+     * Writes the log of a failed scenario to {@code logs/scenarios} and attaches it to the scenario report.
+     *
+     * @param scenario The failed Cucumber scenario.
+     * @param log      The log lines captured while the scenario ran.
+     */
+    private static void attachScenarioLog(Scenario scenario, String log) {
+        byte[] content = log.getBytes(StandardCharsets.UTF_8);
+        scenario.attach(content, "text/plain", "Scenario Log");
+        try {
+            Files.createDirectories(SCENARIO_LOG_DIR);
+            Files.write(SCENARIO_LOG_DIR.resolve(fileName(scenario) + ".log"), content);
+        } catch (IOException e) {
+            LOG.error("Unable to write the log of scenario {}: {}", scenario.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Executed once after all scenarios.
+     * Writes the WebDriver command latencies recorded during the run.
+     */
+    @AfterAll
+    public static void afterAllScenarios() {
+        CommandTelemetry.getInstance().writeReport();
+    }
+
+    /**
+     * Builds a file-safe name for the files of a scenario, from its name and line.
+     *
+     * @param scenario The Cucumber scenario.
+     * @return the file name, without extension
+     */
+    private static String fileName(Scenario scenario) {
+        return scenario.getName().replaceAll("[^A-Za-z0-9_-]+", "_") + "-" + scenario.getLine();
     }
-}
\ No newline at end of file
+}
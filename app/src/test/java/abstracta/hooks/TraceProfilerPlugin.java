@@ -0,0 +1,137 @@
+package abstracta.hooks;
+
+import abstracta.framework.telemetry.ScenarioEvent;
+import abstracta.framework.telemetry.StepEvent;
+import abstracta.framework.telemetry.TraceRecorder;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that profiles every scenario and every step, hooks included.
+ * Each one opens a {@link TraceRecorder} span and a Flight Recorder {@link ScenarioEvent} or {@link StepEvent};
+ * the trace is written when the run finishes. Cucumber publishes these events on the thread that runs the
+ * scenario, so page-object and WebDriver command spans recorded meanwhile nest under the step that issued them.
+ * Step hooks cannot see the step text, which is why the spans come from here rather than from {@link ScenarioHooks}.
+ */
+public class TraceProfilerPlugin implements ConcurrentEventListener {
+    private static final TraceRecorder TRACE = TraceRecorder.getInstance();
+    private final ThreadLocal<String> scenarioName = new ThreadLocal<>();
+    private final ThreadLocal<TraceRecorder.Span> scenarioSpan = new ThreadLocal<>();
+    private final ThreadLocal<ScenarioEvent> scenarioEvent = new ThreadLocal<>();
+    private final ThreadLocal<String> stepName = new ThreadLocal<>();
+    private final ThreadLocal<TraceRecorder.Span> stepSpan = new ThreadLocal<>();
+    private final ThreadLocal<StepEvent> stepEvent = new ThreadLocal<>();
+
+    /**
+     * Registers the handlers of the scenario, step and run events.
+     *
+     * @param publisher the Cucumber event publisher
+     */
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::startScenario);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::finishScenario);
+        publisher.registerHandlerFor(TestStepStarted.class, this::startStep);
+        publisher.registerHandlerFor(TestStepFinished.class, this::finishStep);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> TRACE.writeTrace());
+    }
+
+    /**
+     * Opens the span and the Flight Recorder event of a scenario.
+     *
+     * @param event the scenario start event
+     */
+    private void startScenario(TestCaseStarted event) {
+        String name = event.getTestCase().getName();
+        ScenarioEvent flightEvent = new ScenarioEvent();
+        flightEvent.begin();
+        scenarioName.set(name);
+        scenarioEvent.set(flightEvent);
+        scenarioSpan.set(TRACE.begin("scenario", name));
+    }
+
+    /**
+     * Closes the span and commits the Flight Recorder event of a scenario.
+     *
+     * @param event the scenario end event
+     */
+    private void finishScenario(TestCaseFinished event) {
+        String status = event.getResult().getStatus().name();
+        close(scenarioSpan, status);
+        ScenarioEvent flightEvent = scenarioEvent.get();
+        if (flightEvent != null) {
+            flightEvent.complete(scenarioName.get(), status);
+        }
+        scenarioEvent.remove();
+        scenarioName.remove();
+    }
+
+    /**
+     * Opens the span and the Flight Recorder event of a step.
+     *
+     * @param event the step start event
+     */
+    private void startStep(TestStepStarted event) {
+        String name = stepName(event.getTestStep());
+        StepEvent flightEvent = new StepEvent();
+        flightEvent.begin();
+        stepName.set(name);
+        stepEvent.set(flightEvent);
+        stepSpan.set(TRACE.begin("step", name));
+    }
+
+    /**
+     * Closes the span and commits the Flight Recorder event of a step.
+     *
+     * @param event the step end event
+     */
+    private void finishStep(TestStepFinished event) {
+        String status = event.getResult().getStatus().name();
+        close(stepSpan, status);
+        StepEvent flightEvent = stepEvent.get();
+        if (flightEvent != null) {
+            flightEvent.complete(scenarioName.get(), stepName.get(), status);
+        }
+        stepEvent.remove();
+        stepName.remove();
+    }
+
+    /**
+     * Closes the span open on the current thread, recording the result status as its detail.
+     *
+     * @param span   the span holder
+     * @param status the status of the scenario or step
+     */
+    private static void close(ThreadLocal<TraceRecorder.Span> span, String status) {
+        TraceRecorder.Span open = span.get();
+        if (open != null) {
+            open.setDetail(status);
+            open.close();
+            span.remove();
+        }
+    }
+
+    /**
+     * Names a step after the Gherkin step, or after the hook type for hooks.
+     *
+     * @param step the step being executed
+     * @return the step name
+     */
+    private static String stepName(TestStep step) {
+        if (step instanceof PickleStepTestStep pickleStep) {
+            return pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+        }
+        if (step instanceof HookTestStep hookStep) {
+            return hookStep.getHookType() + " " + hookStep.getCodeLocation();
+        }
+        return step.getCodeLocation();
+    }
+}
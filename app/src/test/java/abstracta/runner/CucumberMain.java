@@ -0,0 +1,89 @@
+package abstracta.runner;
+
+import io.cucumber.core.options.CommandlineOptionsParser;
+import io.cucumber.core.options.CucumberProperties;
+import io.cucumber.core.options.CucumberPropertiesParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import io.cucumber.core.runtime.Runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.cucumber.core.options.Constants.EXECUTION_ORDER_PROPERTY_NAME;
+
+/**
+ * Command-line entry point equivalent to {@code io.cucumber.core.cli.Main}, except that scenarios are scheduled
+ * longest first from the durations of past runs ({@link LongestFirstOrder}) unless an order is given, either with
+ * {@code --order} or through the {@code cucumber.execution.order} property in any of its sources.
+ * In a shard of a {@link ShardedRun}, only the scenarios of that shard run, longest first ({@link ShardOrder}).
+ * Options are read from the same sources as the Cucumber CLI, with the same precedence.
+ */
+public final class CucumberMain {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CucumberMain() {
+    }
+
+    /**
+     * Runs Cucumber and exits with its exit status.
+     *
+     * @param argv the Cucumber command-line options
+     */
+    public static void main(String... argv) {
+        System.exit(run(argv));
+    }
+
+    /**
+     * Runs Cucumber.
+     *
+     * @param argv the Cucumber command-line options
+     * @return the exit status
+     */
+    public static byte run(String... argv) {
+        List<Map<String, String>> propertySources = List.of(CucumberProperties.fromPropertiesFile(),
+                CucumberProperties.fromEnvironment(), CucumberProperties.fromSystemProperties());
+        RuntimeOptions propertiesFileOptions = new CucumberPropertiesParser()
+                .parse(propertySources.get(0))
+                .build();
+        RuntimeOptions environmentOptions = new CucumberPropertiesParser()
+                .parse(propertySources.get(1))
+                .build(propertiesFileOptions);
+        RuntimeOptions systemOptions = new CucumberPropertiesParser()
+                .parse(propertySources.get(2))
+                .build(environmentOptions);
+
+        CommandlineOptionsParser commandlineOptionsParser = new CommandlineOptionsParser(System.out);
+        RuntimeOptionsBuilder builder = commandlineOptionsParser.parse(argv)
+                .addDefaultGlueIfAbsent()
+                .addDefaultFeaturePathIfAbsent()
+                .addDefaultSummaryPrinterIfNotDisabled()
+                .enablePublishPlugin();
+        Integer shard = Integer.getInteger(ShardedRun.SHARD_INDEX);
+        if (shard != null) {
+            builder.setPickleOrder(new ShardOrder(new LongestFirstOrder(ScenarioTimings.load()), shard,
+                    Integer.getInteger(ShardedRun.SHARD_COUNT, 1)));
+        } else if (Arrays.stream(argv).noneMatch(arg -> arg.startsWith("--order"))
+                && propertySources.stream().noneMatch(source -> source.get(EXECUTION_ORDER_PROPERTY_NAME) != null)) {
+            builder.setPickleOrder(new LongestFirstOrder(ScenarioTimings.load()));
+        }
+        RuntimeOptions runtimeOptions = builder.build(systemOptions);
+
+        Optional<Byte> exitStatus = commandlineOptionsParser.exitStatus();
+        if (exitStatus.isPresent()) {
+            return exitStatus.get();
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Runtime runtime = Runtime.builder()
+                .withRuntimeOptions(runtimeOptions)
+                .withClassLoader(() -> classLoader)
+                .build();
+        runtime.run();
+        return runtime.exitStatus();
+    }
+}
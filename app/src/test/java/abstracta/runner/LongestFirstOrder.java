@@ -0,0 +1,45 @@
+package abstracta.runner;
+
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.order.PickleOrder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders the scenarios from the longest to the shortest expected duration, according to {@link ScenarioTimings}.
+ * Parallel workers take scenarios from the front of the queue, so the long ones start first and the short ones
+ * fill the gaps at the end, instead of one worker starting a long scenario when the others are about to finish.
+ * Scenarios without history are expected to last the median known duration; ties keep the file order.
+ */
+public class LongestFirstOrder implements PickleOrder {
+    private final ScenarioTimings timings;
+
+    /**
+     * Creates the order from the durations of past runs.
+     *
+     * @param timings the durations of past runs
+     */
+    public LongestFirstOrder(ScenarioTimings timings) {
+        this.timings = timings;
+    }
+
+    /**
+     * Returns the expected duration of a scenario.
+     *
+     * @param pickle the scenario
+     * @return the expected duration in milliseconds
+     */
+    long expectedMillis(Pickle pickle) {
+        Long known = timings.get(ScenarioTimings.key(pickle.getUri(), pickle.getLocation().getLine()));
+        return known != null ? known : timings.median();
+    }
+
+    @Override
+    public List<Pickle> orderPickles(List<Pickle> pickles) {
+        List<Pickle> ordered = new ArrayList<>(pickles);
+        ordered.sort(Comparator.comparingLong(this::expectedMillis).reversed());
+        return ordered;
+    }
+}
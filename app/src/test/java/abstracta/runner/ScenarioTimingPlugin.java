@@ -0,0 +1,48 @@
+package abstracta.runner;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+
+/**
+ * Cucumber plugin that records how long every scenario took and saves the durations in {@link ScenarioTimings}
+ * when the run finishes, so the next run can schedule the longest scenarios first.
+ * In a shard of a {@link ShardedRun}, the durations go to the shard directory instead, to be merged afterwards.
+ */
+public class ScenarioTimingPlugin implements ConcurrentEventListener {
+    private final ScenarioTimings timings = ScenarioTimings.load();
+
+    /**
+     * Registers the handlers of the scenario and run events.
+     *
+     * @param publisher the Cucumber event publisher
+     */
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::record);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> save());
+    }
+
+    /**
+     * Saves the durations, to the store or, in a shard, to the shard directory.
+     */
+    private void save() {
+        Integer shard = Integer.getInteger(ShardedRun.SHARD_INDEX);
+        if (shard == null) {
+            timings.save();
+        } else {
+            timings.saveRecorded(ShardedRun.shardDir(shard).resolve(ShardedRun.TIMINGS_FILE));
+        }
+    }
+
+    /**
+     * Records the duration of a finished scenario.
+     *
+     * @param event the scenario end event
+     */
+    private void record(TestCaseFinished event) {
+        timings.record(ScenarioTimings.key(event.getTestCase().getUri(), event.getTestCase().getLocation().getLine()),
+                event.getResult().getDuration().toMillis());
+    }
+}
@@ -0,0 +1,232 @@
+package abstracta.runner;
+
+import abstracta.utils.LoggerManager;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persisted durations of past scenario runs, in milliseconds, keyed by feature path and scenario line.
+ * The store lives in {@code reports/timings/scenario-timings.properties}, outside the build directory so a clean
+ * build keeps it. When it does not exist yet, the durations are read from the last {@code cucumber.json} report.
+ * A new duration is averaged with the stored one, so one slow run does not reorder the whole suite.
+ * Shards of a {@link ShardedRun} leave the store untouched while they run, so all of them split the suite from the
+ * same durations; each one saves what it recorded to its own file, merged into the store when every shard is done.
+ */
+public final class ScenarioTimings {
+    private static final LoggerManager LOG = LoggerManager.getLogger(ScenarioTimings.class);
+    private static final Path STORE = Paths.get("reports", "timings", "scenario-timings.properties");
+    private static final Path CUCUMBER_JSON = Paths.get("build", "cucumber", "cucumber.json");
+    private final Map<String, Long> millis = new ConcurrentHashMap<>();
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Private constructor to create an empty store.
+     */
+    private ScenarioTimings() {
+    }
+
+    /**
+     * Loads the stored durations, falling back to the last Cucumber JSON report.
+     *
+     * @return the durations known so far, empty if there is no history
+     */
+    public static ScenarioTimings load() {
+        ScenarioTimings timings = new ScenarioTimings();
+        try {
+            if (Files.exists(STORE)) {
+                timings.loadProperties(STORE);
+            } else if (Files.exists(CUCUMBER_JSON)) {
+                timings.loadCucumberJson();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to read scenario timings, scheduling without history: {}", e.getMessage());
+            timings.millis.clear();
+        }
+        LOG.info("Loaded the durations of {} scenarios", timings.millis.size());
+        return timings;
+    }
+
+    /**
+     * Builds the key of a scenario: the feature path without its scheme, and the scenario line.
+     * Classpath and file URIs of the same feature give the same key.
+     *
+     * @param uri  the feature URI
+     * @param line the line of the scenario
+     * @return the key
+     */
+    public static String key(URI uri, int line) {
+        return key(uri.toString(), line);
+    }
+
+    /**
+     * Builds the key of a scenario from the feature URI as written in reports.
+     *
+     * @param uri  the feature URI
+     * @param line the line of the scenario
+     * @return the key
+     */
+    private static String key(String uri, int line) {
+        String path = uri.replace('\\', '/');
+        int features = path.lastIndexOf("features/");
+        if (features >= 0) {
+            path = path.substring(features);
+        } else if (path.indexOf(':') > 0) {
+            path = path.substring(path.indexOf(':') + 1);
+        }
+        return path + ":" + line;
+    }
+
+    /**
+     * Returns the expected duration of a scenario.
+     *
+     * @param key the scenario key
+     * @return the duration in milliseconds, or null if the scenario has no history
+     */
+    public Long get(String key) {
+        return millis.get(key);
+    }
+
+    /**
+     * Returns the median of the known durations, the estimate used for scenarios without history.
+     *
+     * @return the median duration in milliseconds, zero if nothing is known
+     */
+    public long median() {
+        List<Long> known = millis.values().stream().sorted().toList();
+        return known.isEmpty() ? 0 : known.get(known.size() / 2);
+    }
+
+    /**
+     * Records the duration of a scenario run, averaged with the stored one.
+     *
+     * @param key      the scenario key
+     * @param duration the duration in milliseconds
+     */
+    public void record(String key, long duration) {
+        millis.merge(key, duration, (previous, latest) -> (previous + latest) / 2);
+        recorded.add(key);
+    }
+
+    /**
+     * Writes the store, keeping the scenarios that did not run this time.
+     */
+    public void save() {
+        ScenarioTimings stored = new ScenarioTimings();
+        try {
+            if (Files.exists(STORE)) {
+                stored.loadProperties(STORE);
+            }
+            stored.millis.putAll(millis);
+            write(STORE, stored.millis);
+        } catch (IOException e) {
+            LOG.error("Unable to write scenario timings: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the durations recorded in this run only, leaving the store untouched.
+     *
+     * @param file the file to write
+     */
+    public void saveRecorded(Path file) {
+        Map<String, Long> latest = new TreeMap<>();
+        recorded.forEach(key -> latest.put(key, millis.get(key)));
+        try {
+            write(file, latest);
+        } catch (IOException e) {
+            LOG.error("Unable to write scenario timings: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Takes the durations written by {@link #saveRecorded(Path)} in another run, replacing the known ones.
+     * Does nothing if the file does not exist.
+     *
+     * @param file the file to read
+     */
+    public void merge(Path file) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            loadProperties(file);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to read scenario timings from {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes durations as a properties file.
+     *
+     * @param file      the file to write
+     * @param durations the durations in milliseconds by scenario key
+     * @throws IOException if the file cannot be written
+     */
+    private static void write(Path file, Map<String, Long> durations) throws IOException {
+        Properties properties = new Properties();
+        new TreeMap<>(durations).forEach((key, value) -> properties.setProperty(key, value.toString()));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Scenario durations in milliseconds, used to schedule the longest first");
+        }
+        LOG.info("Scenario durations written to {}", file.toAbsolutePath());
+    }
+
+    /**
+     * Reads durations from a properties file.
+     *
+     * @param file the file to read
+     * @throws IOException if the file cannot be read
+     */
+    private void loadProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        properties.stringPropertyNames().forEach(key -> millis.put(key, Long.parseLong(properties.getProperty(key))));
+    }
+
+    /**
+     * Reads the durations of the last run from the Cucumber JSON report: the sum of the steps and hooks
+     * of every scenario, reported in nanoseconds.
+     *
+     * @throws IOException if the report cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    private void loadCucumberJson() throws IOException {
+        List<Map<String, Object>> features = new Json().toType(
+                Files.readString(CUCUMBER_JSON, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+        for (Map<String, Object> feature : features) {
+            String uri = String.valueOf(feature.get("uri"));
+            for (Map<String, Object> element : (List<Map<String, Object>>) feature.getOrDefault("elements", List.of())) {
+                if (!"scenario".equals(element.get("type"))) {
+                    continue;
+                }
+                long nanos = 0;
+                for (String section : List.of("before", "steps", "after")) {
+                    for (Map<String, Object> step : (List<Map<String, Object>>) element.getOrDefault(section, List.of())) {
+                        Map<String, Object> result = (Map<String, Object>) step.getOrDefault("result", Map.of());
+                        nanos += ((Number) result.getOrDefault("duration", 0)).longValue();
+                    }
+                }
+                millis.put(key(uri, ((Number) element.get("line")).intValue()), nanos / 1_000_000);
+            }
+        }
+    }
+}
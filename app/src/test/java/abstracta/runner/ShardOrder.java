@@ -0,0 +1,59 @@
+package abstracta.runner;
+
+import abstracta.utils.LoggerManager;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.order.PickleOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the scenarios of one shard out of a suite split into balanced shards, in longest-first order.
+ * Scenarios are dealt from the longest to the shortest expected duration, each to the shard with the least work so
+ * far, so the shards end close together. Every shard computes the same split from the same scenarios and durations
+ * and keeps its own part; scenarios without any known duration are dealt round-robin.
+ */
+public class ShardOrder implements PickleOrder {
+    private static final LoggerManager LOG = LoggerManager.getLogger(ShardOrder.class);
+    private final LongestFirstOrder order;
+    private final int index;
+    private final int count;
+
+    /**
+     * Creates the order of one shard.
+     *
+     * @param order the longest-first order the scenarios are dealt in
+     * @param index the index of the shard to keep, from zero
+     * @param count the number of shards
+     * @throws IllegalArgumentException if the index is not within the shard count
+     */
+    public ShardOrder(LongestFirstOrder order, int index, int count) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard " + index + " does not exist in " + count + " shards");
+        }
+        this.order = order;
+        this.index = index;
+        this.count = count;
+    }
+
+    @Override
+    public List<Pickle> orderPickles(List<Pickle> pickles) {
+        long[] loads = new long[count];
+        List<Pickle> kept = new ArrayList<>();
+        for (Pickle pickle : order.orderPickles(pickles)) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += Math.max(1, order.expectedMillis(pickle));
+            if (lightest == index) {
+                kept.add(pickle);
+            }
+        }
+        LOG.info("Shard {} of {} runs {} of {} scenarios, expected to take {} ms", index + 1, count, kept.size(),
+                pickles.size(), loads[index]);
+        return kept;
+    }
+}
@@ -0,0 +1,361 @@
+package abstracta.runner;
+
+import abstracta.utils.LoggerManager;
+import me.jvt.cucumber.report.config.ConfigurationFactory;
+import net.masterthought.cucumber.ReportBuilder;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Command-line entry point that splits the scenarios into {@value #SHARD_COUNT} balanced shards and runs each one
+ * through {@link CucumberMain} in a JVM of its own, with its own browsers, then merges what the shards wrote into
+ * the reports of a single run.
+ * <p>
+ * It takes the same options as {@link CucumberMain}. The {@code json} and {@code rerun} plugins and the
+ * PrettyReports plugin are not passed to the shards: each shard writes its JSON report, rerun file, scenario
+ * durations and console output to {@code build/cucumber/shard-<n>}, and those are merged into the files and the
+ * report directory the options name. The {@code html} report cannot be merged and is written per shard, next to
+ * the file the option names. Logs and WebDriver telemetry go to a {@code shard-<n>} directory under their usual
+ * location. The exit status is the one of the first shard that failed.
+ */
+public final class ShardedRun {
+    /**
+     * System property holding the number of shards.
+     */
+    public static final String SHARD_COUNT = "shard.count";
+    /**
+     * System property holding the index of the shard a JVM runs, from zero; absent outside shards.
+     */
+    public static final String SHARD_INDEX = "shard.index";
+    /**
+     * System property holding the Java Flight Recorder settings to record every shard with, if any.
+     */
+    public static final String SHARD_JFR = "shard.jfr";
+    /**
+     * Name of the file in the shard directory holding the scenario durations recorded by the shard.
+     */
+    static final String TIMINGS_FILE = "scenario-timings.properties";
+    private static final LoggerManager LOG = LoggerManager.getLogger(ShardedRun.class);
+    private static final Path CUCUMBER_DIR = Paths.get("build", "cucumber");
+    private static final String PRETTY_REPORTS = "me.jvt.cucumber.report.PrettyReports";
+    private static final String JSON_FILE = "cucumber.json";
+    private static final String RERUN_FILE = "rerun.txt";
+    private static final String CONSOLE_FILE = "console.log";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ShardedRun() {
+    }
+
+    /**
+     * Runs the shards and exits with the status of the run.
+     *
+     * @param argv the Cucumber command-line options
+     */
+    public static void main(String... argv) {
+        System.exit(run(argv));
+    }
+
+    /**
+     * Returns the directory a shard writes its reports to.
+     *
+     * @param index the index of the shard, from zero
+     * @return the shard directory
+     */
+    static Path shardDir(int index) {
+        return CUCUMBER_DIR.resolve("shard-" + index);
+    }
+
+    /**
+     * Runs the shards in parallel, waits for all of them and merges their reports.
+     *
+     * @param argv the Cucumber command-line options
+     * @return the exit status of the first shard that failed, or zero
+     */
+    public static byte run(String... argv) {
+        int count = Integer.getInteger(SHARD_COUNT, 1);
+        if (count < 1) {
+            throw new IllegalArgumentException(SHARD_COUNT + " must be at least 1, got " + count);
+        }
+        Outputs outputs = new Outputs();
+        List<String> shardArgs = outputs.strip(argv);
+        deleteShardDirs();
+
+        List<Process> shards = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            shards.add(start(index, count, outputs.shardArgs(shardArgs, index)));
+        }
+        LOG.info("Started {} shards", count);
+        byte status = 0;
+        for (int index = 0; index < count; index++) {
+            int exitValue = waitFor(shards.get(index));
+            LOG.info("Shard {} of {} finished with exit status {}", index + 1, count, exitValue);
+            printConsole(index);
+            if (status == 0 && exitValue != 0) {
+                status = (byte) exitValue;
+            }
+        }
+        outputs.merge(count);
+        return status;
+    }
+
+    /**
+     * Starts the JVM of a shard, with the system properties of this JVM, the shard's own log, telemetry and flight
+     * recording locations, and its console written to the shard directory.
+     *
+     * @param index the index of the shard
+     * @param count the number of shards
+     * @param args  the Cucumber options of the shard
+     * @return the shard process
+     */
+    private static Process start(int index, int count, List<String> args) {
+        Path dir = shardDir(index);
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(arg -> arg.startsWith("-D"))
+                .forEach(command::add);
+        command.add("-D" + SHARD_INDEX + "=" + index);
+        command.add("-Dlog.dir=" + Paths.get(System.getProperty("log.dir", "logs"), "shard-" + index));
+        command.add("-Dwebdriver.telemetry.dir=" + Paths.get(System.getProperty("webdriver.telemetry.dir",
+                "reports/telemetry"), "shard-" + index));
+        String jfr = System.getProperty(SHARD_JFR);
+        if (jfr != null) {
+            command.add("-XX:StartFlightRecording=filename=" + Paths.get("build", "jfr", "cucumber-shard-" + index
+                    + ".jfr") + ",settings=" + (jfr.isEmpty() ? "profile" : jfr) + ",dumponexit=true");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(CucumberMain.class.getName());
+        command.addAll(args);
+        try {
+            Files.createDirectories(dir);
+            return new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(dir.resolve(CONSOLE_FILE).toFile())
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start shard " + (index + 1) + " of " + count, e);
+        }
+    }
+
+    /**
+     * Waits for a shard to exit.
+     *
+     * @param shard the shard process
+     * @return its exit value
+     */
+    private static int waitFor(Process shard) {
+        try {
+            return shard.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shard.destroy();
+            throw new IllegalStateException("Interrupted while waiting for the shards", e);
+        }
+    }
+
+    /**
+     * Copies the console output of a shard to this one, so the run reads as the shards in order.
+     *
+     * @param index the index of the shard
+     */
+    private static void printConsole(int index) {
+        try {
+            System.out.println("===== Shard " + (index + 1) + " =====");
+            Files.copy(shardDir(index).resolve(CONSOLE_FILE), System.out);
+            System.out.flush();
+        } catch (IOException e) {
+            LOG.warn("Unable to print the console of shard {}: {}", index + 1, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the shard directories of a previous run, which may have had more shards.
+     */
+    private static void deleteShardDirs() {
+        if (!Files.isDirectory(CUCUMBER_DIR)) {
+            return;
+        }
+        try (Stream<Path> dirs = Files.list(CUCUMBER_DIR)) {
+            for (Path dir : dirs.filter(path -> path.getFileName().toString().startsWith("shard-")).toList()) {
+                try (Stream<Path> paths = Files.walk(dir)) {
+                    for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.delete(path);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete the shard directories of the previous run", e);
+        }
+    }
+
+    /**
+     * The report outputs requested on the command line, which the shards write separately and are merged here.
+     */
+    private static final class Outputs {
+        private Path json;
+        private Path rerun;
+        private String prettyReports;
+
+        /**
+         * Removes the {@code json}, {@code rerun} and PrettyReports plugins from the options, remembering their
+         * targets.
+         *
+         * @param argv the Cucumber command-line options
+         * @return the remaining options
+         */
+        private List<String> strip(String... argv) {
+            List<String> args = new ArrayList<>();
+            for (int i = 0; i < argv.length; i++) {
+                boolean plugin = ("--plugin".equals(argv[i]) || "-p".equals(argv[i])) && i + 1 < argv.length;
+                if (plugin && argv[i + 1].startsWith("json:")) {
+                    json = Paths.get(argv[++i].substring("json:".length()));
+                } else if (plugin && argv[i + 1].startsWith("rerun:")) {
+                    rerun = Paths.get(argv[++i].substring("rerun:".length()));
+                } else if (plugin && argv[i + 1].startsWith(PRETTY_REPORTS)) {
+                    String option = argv[++i];
+                    prettyReports = option.length() > PRETTY_REPORTS.length()
+                            ? option.substring(PRETTY_REPORTS.length() + 1)
+                            : Paths.get("target", "cucumber").toString();
+                } else {
+                    args.add(argv[i]);
+                }
+            }
+            return args;
+        }
+
+        /**
+         * Builds the options of a shard: the remaining options, with the {@code html} report moved to a
+         * {@code shard-<n>} directory, and the JSON report and rerun file written to the shard directory.
+         *
+         * @param args  the options without the merged plugins
+         * @param index the index of the shard
+         * @return the options of the shard
+         */
+        private List<String> shardArgs(List<String> args, int index) {
+            List<String> shardArgs = new ArrayList<>();
+            for (String arg : args) {
+                if (arg.startsWith("html:")) {
+                    Path html = Paths.get(arg.substring("html:".length()));
+                    Path parent = html.getParent() != null ? html.getParent() : Paths.get("");
+                    arg = "html:" + parent.resolve("shard-" + index).resolve(html.getFileName());
+                }
+                shardArgs.add(arg);
+            }
+            Path dir = shardDir(index);
+            shardArgs.addAll(0, List.of("--plugin", "json:" + dir.resolve(JSON_FILE),
+                    "--plugin", "rerun:" + dir.resolve(RERUN_FILE)));
+            return shardArgs;
+        }
+
+        /**
+         * Merges the JSON reports, rerun files and scenario durations of the shards, then builds the PrettyReports
+         * report from the merged JSON.
+         *
+         * @param count the number of shards
+         */
+        private void merge(int count) {
+            Path mergedJson = json != null ? json : CUCUMBER_DIR.resolve(JSON_FILE);
+            try {
+                writeFile(mergedJson, new Json().toJson(mergeFeatures(count)));
+                if (rerun != null) {
+                    StringBuilder failed = new StringBuilder();
+                    for (int index = 0; index < count; index++) {
+                        Path file = shardDir(index).resolve(RERUN_FILE);
+                        if (Files.exists(file) && !Files.readString(file, StandardCharsets.UTF_8).isBlank()) {
+                            failed.append(Files.readString(file, StandardCharsets.UTF_8).strip()).append('\n');
+                        }
+                    }
+                    writeFile(rerun, failed.toString());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to merge the shard reports", e);
+            }
+            ScenarioTimings timings = ScenarioTimings.load();
+            for (int index = 0; index < count; index++) {
+                timings.merge(shardDir(index).resolve(TIMINGS_FILE));
+            }
+            timings.save();
+            if (prettyReports != null) {
+                new ReportBuilder(List.of(mergedJson.toAbsolutePath().toString()),
+                        ConfigurationFactory.getConfiguration(new File(prettyReports))).generateReports();
+            }
+            LOG.info("Merged the reports of {} shards into {}", count, mergedJson.toAbsolutePath());
+        }
+
+        /**
+         * Reads the JSON reports of the shards and joins the scenarios of each feature into a single feature entry,
+         * ordered by line, each after the background it ran with.
+         *
+         * @param count the number of shards
+         * @return the merged features
+         * @throws IOException if a report cannot be read
+         */
+        @SuppressWarnings("unchecked")
+        private static List<Map<String, Object>> mergeFeatures(int count) throws IOException {
+            Map<Object, Map<String, Object>> features = new LinkedHashMap<>();
+            Map<Object, List<List<Map<String, Object>>>> scenarios = new LinkedHashMap<>();
+            for (int index = 0; index < count; index++) {
+                Path file = shardDir(index).resolve(JSON_FILE);
+                if (!Files.exists(file)) {
+                    LOG.warn("Shard {} wrote no JSON report", index + 1);
+                    continue;
+                }
+                for (Map<String, Object> feature : new Json().<List<Map<String, Object>>>toType(
+                        Files.readString(file, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE)) {
+                    features.putIfAbsent(feature.get("uri"), new LinkedHashMap<>(feature));
+                    List<List<Map<String, Object>>> groups = scenarios.computeIfAbsent(feature.get("uri"),
+                            uri -> new ArrayList<>());
+                    List<Map<String, Object>> group = new ArrayList<>();
+                    for (Map<String, Object> element
+                            : (List<Map<String, Object>>) feature.getOrDefault("elements", List.of())) {
+                        group.add(element);
+                        if (!"background".equals(element.get("type"))) {
+                            groups.add(group);
+                            group = new ArrayList<>();
+                        }
+                    }
+                }
+            }
+            List<Map<String, Object>> merged = new ArrayList<>();
+            features.forEach((uri, feature) -> {
+                List<List<Map<String, Object>>> groups = scenarios.get(uri);
+                groups.sort(Comparator.comparingLong(group ->
+                        ((Number) group.get(group.size() - 1).get("line")).longValue()));
+                feature.put("elements", groups.stream().flatMap(List::stream).toList());
+                merged.add(feature);
+            });
+            return merged;
+        }
+
+        /**
+         * Writes a file, creating its directory.
+         *
+         * @param file    the file to write
+         * @param content the content
+         * @throws IOException if the file cannot be written
+         */
+        private static void writeFile(Path file, String content) throws IOException {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package abstracta.steps;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import abstracta.api.OpenCartClient;
+import abstracta.ui.Checkpoints;
 import abstracta.ui.PageTransporter;
 import abstracta.ui.components.SearchBarComponent;
 import abstracta.ui.components.TopBarComponent;
@@ -42,6 +43,38 @@ public class TestSteps {
         homePage = pageTransporter.navigateToHomePage();
     }
 
+    /**
+     * Step definition that fills the shopping cart through OpenCart's HTTP endpoints instead of the UI,
+     * hands the session to the browser and opens the Shopping Cart Page directly.
+     *
+     * @param productName the name of the product to put in the cart.
+     */
+    @Given("my shopping cart already contains {string}")
+    public void seedShoppingCart(String productName) {
+        OpenCartClient client = new OpenCartClient().addToCart(productName, 1);
+        pageTransporter.useSession(client.getSessionId());
+        cartPage = pageTransporter.navigateToShoppingCartPage();
+    }
+
+    /**
+     * Step definition that reaches the Shopping Cart Page with a product in it, restoring the browser state
+     * from a checkpoint in scenarios tagged "@checkpoint" once another such scenario has gone through the UI.
+     * When restoring, the cart itself is rebuilt through OpenCart's HTTP endpoints in a fresh session.
+     *
+     * @param productName the name of the product to put in the cart.
+     */
+    @Given("I have {string} in the shopping cart from a checkpoint")
+    public void reachCartCheckpoint(String productName) {
+        cartPage = Checkpoints.getInstance().reach("cart with " + productName, ShoppingCartPage.class, () -> {
+            navigateToOpenCartPage();
+            enterProductInSearchBar(productName);
+            selectFirstProduct();
+            addProductToCart();
+            clickShoppingCartButton();
+            return searchBar.clickOnViewCartPage();
+        }, client -> client.addToCart(productName, 1));
+    }
+
     /**
      * Step definition for entering a product name in the search bar and submitting the search.
      * Uses the SearchBarComponent to perform the search action.
@@ -123,8 +156,8 @@ public class TestSteps {
     @Then("I should not see {string} in the shopping cart")
     public void verifyProductNotInCart(String productName) {
         // First, verify that the product is not in the cart
-        boolean isProductPresent = cartPage.isProductInCart(productName);
-        assertFalse(isProductPresent, "The product " + productName + " should not be in the cart");
+        boolean isProductAbsent = cartPage.isProductNotInCart(productName);
+        assertTrue(isProductAbsent, "The product " + productName + " should not be in the cart");
         // Then, check if the empty cart message is displayed
         assertTrue(cartPage.isEmptyCartMessageDisplayed(), "The empty shopping cart message is not displayed.");
     }
@@ -12,3 +12,22 @@ Feature: Shopping Cart Management
     When I remove "iPhone" from the shopping cart
     Then I should not see "iPhone" in the shopping cart
     And the cart total should be zero
+
+  Scenario: Remove an item put in the shopping cart through the store API
+    Given my shopping cart already contains "iPhone"
+    Then I should see "iPhone" in the shopping cart
+    When I remove "iPhone" from the shopping cart
+    Then I should not see "iPhone" in the shopping cart
+    And the cart total should be zero
+
+  @checkpoint
+  Scenario: Keep an item in a cart restored from a checkpoint
+    Given I have "iPhone" in the shopping cart from a checkpoint
+    Then I should see "iPhone" in the shopping cart
+
+  @checkpoint
+  Scenario: Remove an item from a cart restored from a checkpoint
+    Given I have "iPhone" in the shopping cart from a checkpoint
+    When I remove "iPhone" from the shopping cart
+    Then I should not see "iPhone" in the shopping cart
+    And the cart total should be zero